@@ -1,5 +1,6 @@
 package com.petrolpark.destroy.block.color;
 
+import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.IntSupplier;
 
@@ -7,19 +8,18 @@ import javax.annotation.Nullable;
 
 import com.petrolpark.destroy.capability.Pollution;
 import com.petrolpark.destroy.capability.Pollution.PollutionType;
+import com.petrolpark.destroy.capability.level.pollution.ClientLevelPollutionData;
 import com.simibubi.create.foundation.ponder.PonderWorld;
 import com.simibubi.create.foundation.utility.Color;
 
-import net.minecraft.client.Minecraft;
 import net.minecraft.client.color.block.BlockColor;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.world.level.BlockAndTintGetter;
-import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.ColorResolver;
 import net.minecraft.world.level.FoliageColor;
 import net.minecraft.world.level.GrassColor;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraftforge.common.util.LazyOptional;
 
 public class SmogAffectedBlockColor implements BlockColor {
@@ -28,6 +28,11 @@ public class SmogAffectedBlockColor implements BlockColor {
     public static final ColorResolver FOLIAGE_COLOR_RESOLVER = (b, x, z) -> -1;
     public static final ColorResolver WATER_COLOR_RESOLVER = (b, x, z) -> -1;
 
+    /**
+     * Every Resolver whose colors depend on Smog.
+     */
+    public static final List<ColorResolver> RESOLVERS = List.of(GRASS_COLOR_RESOLVER, FOLIAGE_COLOR_RESOLVER, WATER_COLOR_RESOLVER);
+
     public static final int getAverageGrassColor(BlockAndTintGetter level, BlockPos pos) {
         return level.getBlockTint(pos, GRASS_COLOR_RESOLVER);
     };
@@ -71,13 +76,12 @@ public class SmogAffectedBlockColor implements BlockColor {
 
     /**
      * Get the color of a Block due to Smog, not accounting for the colors of any Blocks surrounding it.
+     * The Smog level of each chunk is {@link ClientLevelPollutionData#getChunkSmog kept as it is received}, so this doesn't look up any chunks.
      */
     public static int getColor(int originalColor, @Nullable BlockPos pos, BlockAndTintGetter level) {
         if (pos != null) {
-            Minecraft mc = Minecraft.getInstance();
-            ChunkPos chunkPos = new ChunkPos(pos); 
-            LevelChunk chunk = mc.level.getChunkSource().getChunk(chunkPos.x, chunkPos.z, false);
-            if (chunk != null) return getColor(originalColor, chunk.getCapability(Pollution.CAPABILITY));
+            float smog = ClientLevelPollutionData.getChunkSmog(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+            if (smog > 0f) return Color.mixColors(originalColor, brown, smog);
         };
         return originalColor;
     };
@@ -24,6 +24,7 @@ import com.petrolpark.destroy.block.entity.behaviour.fluidTankBehaviour.GeniusFl
 import com.petrolpark.destroy.chemistry.legacy.LegacyMixture;
 import com.petrolpark.destroy.chemistry.legacy.LegacySpecies;
 import com.petrolpark.destroy.chemistry.legacy.LegacyMixture.Phases;
+import com.petrolpark.destroy.chemistry.legacy.MixtureWireFormat;
 import com.petrolpark.destroy.config.DestroyAllConfigs;
 import com.petrolpark.destroy.effect.potion.PotionSeparationRecipes;
 import com.petrolpark.destroy.fluid.DestroyFluids;
@@ -193,6 +194,7 @@ public class CentrifugeBlockEntity extends KineticBlockEntity implements IDirect
 
     @Override
     protected void read(CompoundTag compound, boolean clientPacket) {
+        if (clientPacket) compound = MixtureWireFormat.expand(compound);
         timer = compound.getInt("Timer");
         getInputTank().readFromNBT(compound.getCompound("InputTank"));
         getDenseOutputTank().readFromNBT(compound.getCompound("DenseOutputTank"));
@@ -208,6 +210,7 @@ public class CentrifugeBlockEntity extends KineticBlockEntity implements IDirect
         compound.put("DenseOutputTank", getDenseOutputTank().writeToNBT(new CompoundTag()));
         compound.put("LightOutputTank", getLightOutputTank().writeToNBT(new CompoundTag()));
         super.write(compound, clientPacket);
+        if (clientPacket) MixtureWireFormat.compress(compound);
     };
 
     public int getProcessingSpeed() {
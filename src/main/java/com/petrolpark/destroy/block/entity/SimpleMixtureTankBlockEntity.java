@@ -9,6 +9,7 @@ import org.joml.Vector3f;
 import com.petrolpark.destroy.block.SimplePlaceableMixtureTankBlock;
 import com.petrolpark.destroy.block.entity.behaviour.fluidTankBehaviour.GeniusFluidTankBehaviour;
 import com.petrolpark.destroy.block.renderer.SimpleMixtureTankRenderer.ISimpleMixtureTankRenderInformation;
+import com.petrolpark.destroy.chemistry.legacy.MixtureWireFormat;
 import com.petrolpark.destroy.util.DestroyLang;
 import com.simibubi.create.foundation.blockEntity.SmartBlockEntity;
 import com.simibubi.create.foundation.blockEntity.behaviour.BlockEntityBehaviour;
@@ -75,6 +76,7 @@ public abstract class SimpleMixtureTankBlockEntity extends SmartBlockEntity impl
 
     @Override
     protected void read(CompoundTag tag, boolean clientPacket) {
+        if (clientPacket) tag = MixtureWireFormat.expand(tag);
         super.read(tag, clientPacket);
         int prevLuminosity = luminosity;
         luminosity = tag.getInt("Luminosity");
@@ -89,6 +91,7 @@ public abstract class SimpleMixtureTankBlockEntity extends SmartBlockEntity impl
     protected void write(CompoundTag tag, boolean clientPacket) {
         super.write(tag, clientPacket);
         tag.putInt("Luminosity", luminosity);
+        if (clientPacket) MixtureWireFormat.compress(tag);
     };
 
     @Override
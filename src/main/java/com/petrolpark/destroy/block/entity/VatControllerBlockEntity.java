@@ -4,12 +4,15 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
 
+import com.petrolpark.destroy.Destroy;
 import com.petrolpark.destroy.advancement.DestroyAdvancementTrigger;
 import com.petrolpark.destroy.block.DestroyBlocks;
 import com.petrolpark.destroy.block.VatControllerBlock;
@@ -22,17 +25,21 @@ import com.petrolpark.destroy.capability.Pollution;
 import com.petrolpark.destroy.chemistry.api.util.Constants;
 import com.petrolpark.destroy.chemistry.legacy.LegacyMixture;
 import com.petrolpark.destroy.chemistry.legacy.LegacyReaction;
+import com.petrolpark.destroy.chemistry.legacy.MixtureWireFormat;
 import com.petrolpark.destroy.chemistry.legacy.ReadOnlyMixture;
 import com.petrolpark.destroy.chemistry.legacy.LegacyMixture.ReactionContext;
 import com.petrolpark.destroy.client.particle.BoilingFluidBubbleParticle;
 import com.petrolpark.destroy.config.DestroyAllConfigs;
 import com.petrolpark.destroy.fluid.DestroyFluids;
 import com.petrolpark.destroy.fluid.MixtureFluid;
+import com.petrolpark.destroy.network.DestroyMessages;
+import com.petrolpark.destroy.network.packet.VatStatusS2CPacket;
 import com.petrolpark.destroy.recipe.DestroyRecipeTypes;
 import com.petrolpark.destroy.recipe.MixtureConversionRecipe;
 import com.petrolpark.destroy.util.DestroyLang;
 import com.petrolpark.destroy.util.PollutionHelper;
 import com.petrolpark.destroy.util.vat.Vat;
+import com.petrolpark.destroy.util.vat.VatReactionScheduler;
 import com.petrolpark.destroy.world.explosion.SmartExplosion;
 import com.simibubi.create.CreateClient;
 import com.simibubi.create.content.contraptions.ITransformableBlockEntity;
@@ -81,6 +88,26 @@ import net.minecraftforge.items.ItemHandlerHelper;
 public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveLabGoggleInformation, ISpecialWhenHovered, ThresholdSwitchObservable, ITransformableBlockEntity {
 
     public static final float AIR_PRESSURE = 101000;
+    /**
+     * How often (in ticks) a {@link VatControllerBlockEntity#dormant dormant} Vat checks whether the temperature around it has changed.
+     */
+    protected static final int DORMANT_TEMPERATURE_CHECK_INTERVAL = 20;
+    /**
+     * The most ticks a reacting Vat goes without {@link VatControllerBlockEntity#updateFluidMixture writing} its cached Mixture to its Fluid, so clients still see it change.
+     */
+    protected static final int FLUID_MIXTURE_SYNC_INTERVAL = 10;
+    /**
+     * The fewest ticks between {@link VatControllerBlockEntity#sendData sending} the whole Vat Controller to clients. Any more sends in between are put off until then.
+     */
+    protected static final int FULL_SYNC_INTERVAL = 10;
+    /**
+     * How much (in Pa) the pressure must change before it is {@link VatControllerBlockEntity#syncStatus sent} to clients again. Pressure is shown to the nearest 0.1 kPa.
+     */
+    protected static final float PRESSURE_SYNC_THRESHOLD = 50f;
+    /**
+     * How much (in kelvins) the temperature must change before it is {@link VatControllerBlockEntity#syncStatus sent} to clients again.
+     */
+    protected static final float TEMPERATURE_SYNC_THRESHOLD = 0.05f;
 
     protected Optional<Vat> vat;
 
@@ -107,8 +134,29 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
     protected boolean cachedMixtureBoiling = false;
     protected boolean cachedMixtureReacting = false;
 
+    /*
+     * What clients were last sent, so only changes need to be sent
+     */
+    protected long lastFullSync;
+    protected boolean fullSyncPending;
+    protected int syncedTanksHash;
+    protected float syncedPressure;
+    protected float syncedTemperature;
+    protected boolean syncedBoiling;
+    protected boolean syncedReacting;
+
     protected VatFluidTankBehaviour tankBehaviour;
     protected LazyOptional<IFluidHandler> fluidCapability;
+    /**
+     * Whether the cached Mixture has changed since it was last {@link VatControllerBlockEntity#updateFluidMixture written} to the contained Fluids.
+     * Rather than serializing the Mixture every tick, it is only written when something reads the Fluids (such as saving, Pipes or goggles),
+     * or every {@link VatControllerBlockEntity#FLUID_MIXTURE_SYNC_INTERVAL few ticks} so it can be sent to clients.
+     */
+    protected boolean fluidMixtureChanged;
+    /**
+     * The game time at which the cached Mixture was last {@link VatControllerBlockEntity#updateFluidMixture written} to the contained Fluids.
+     */
+    protected long fluidMixtureLastUpdated;
     protected BlockPos openVentPos;
 
     public SmartInventory inventory;
@@ -116,6 +164,41 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
 
     protected VatAdvancementBehaviour advancementBehaviour;
 
+    /**
+     * Whether this Vat is skipping its server-side ticks, because its Mixture is at equilibrium and nothing about it is changing.
+     * A dormant Vat {@link VatControllerBlockEntity#wakeUp wakes up} when its Mixture is disturbed (such as by adding Items, UV or Fluid),
+     * its heating power changes, or the temperature outside it changes.
+     * This is not saved, as Vats are always woken up when loaded.
+     */
+    protected boolean dormant;
+    /**
+     * The game time at which this Vat became {@link VatControllerBlockEntity#dormant dormant}.
+     */
+    protected long dormantSince;
+    /**
+     * The {@link Pollution#getLocalTemperature temperature outside} this Vat when it became {@link VatControllerBlockEntity#dormant dormant}.
+     */
+    protected float dormantOutsideTemperature;
+
+    /**
+     * The reaction of a copy of the cached Mixture on a worker thread by the {@link VatReactionScheduler}, if there is one. This is collected the next tick.
+     */
+    protected CompletableFuture<VatReactionScheduler.Result> pendingReaction;
+    /**
+     * The cached Mixture of which a copy is being {@link VatControllerBlockEntity#pendingReaction reacted}. If the cached Mixture is replaced (for example
+     * because Fluid was added) before the reaction is collected, the reacted copy is out of date and is thrown away.
+     */
+    protected LegacyMixture pendingReactionMixture;
+    /**
+     * Copies of the Items in each slot of the inventory when the {@link VatControllerBlockEntity#pendingReaction pending reaction} was started. The Items stay in
+     * the inventory while the copy reacts, and only as many as the copy used up are taken out when it is collected.
+     */
+    protected List<ItemStack> pendingReactionItemStacks;
+    /**
+     * Whether the Items or UV in this Vat have changed since the {@link VatControllerBlockEntity#pendingReaction pending reaction} was started.
+     */
+    protected boolean pendingReactionDisturbed;
+
     protected int initializationTicks;
     /**
      * Whether the {@link com.petrolpark.destroy.util.vat.Vat Vat} associated with this Vat Controller is already under the process of being deleted.
@@ -128,6 +211,8 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
         vat = Optional.empty();
         initializationTicks = 3;
         underDeconstruction = false;
+        dormant = false;
+        fluidMixtureChanged = false;
 
         fluidCapability = LazyOptional.empty();
         itemCapability = LazyOptional.empty();
@@ -141,6 +226,7 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
         // Fluid behaviour
         tankBehaviour = new VatFluidTankBehaviour(this, 1000000); // Tank capacity is set very high but is not this high in effect
         tankBehaviour.whenFluidUpdates(this::onFluidStackChanged)
+            .whenFluidObserved(this::updateFluidMixtureIfChanged)
             .forbidExtraction() // Forbid extraction until the Vat is initialized
             .forbidInsertion(); // Forbid insertion no matter what
         fluidCapability = LazyOptional.empty();
@@ -155,7 +241,10 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
         if (itemCapability.isPresent()) return;
         inventory = new SmartInventory(9, this)
             .whenContentsChanged(i -> {
+                wakeUp();
+                if (pendingReaction != null) pendingReactionDisturbed = true;
                 if (cachedMixture != null) cachedMixture.disturbEquilibrium();
+                sendData(); // So clients can render the Items
         });
         itemCapability = LazyOptional.of(() -> inventory);
     };
@@ -189,38 +278,55 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
             temperature.tickChaser();
             addParticles();
         } else {
+            if (fullSyncPending) sendData();
             if (getVatOptional().isEmpty()) return;
             boolean shouldUpdateFluidMixture = false;
             Vat vat = getVatOptional().get();
             if (tankBehaviour.isEmpty()) return;
+
+            // Collect the reaction from a worker thread
+            if (pendingReaction != null) {
+                if (!pendingReaction.isDone()) return; // Wait for it, without doing anything which would change the Mixture
+                shouldUpdateFluidMixture = collectPendingReaction();
+            };
+
+            // Dormancy
+            if (dormant) {
+                if (cachedMixture.isAtEquilibrium() && !hasOutsideTemperatureChanged()) return; // Skip this tick entirely if nothing has changed
+                wakeUp();
+            };
+
             double fluidAmount = getCapacity() / Constants.MILLIBUCKETS_PER_LITER; // Converts getFluidAmount() in mB to liters
 
             int cyclesPerTick = getSimulationLevel();
 
             // Heating
+            float outsideTemperature = Pollution.getLocalTemperature(getLevel(), getBlockPos());
+            boolean heated = false;
             for (int cycle = 0; cycle < cyclesPerTick; cycle++) {
                 float energyChange = heatingPower;
-                energyChange += (Pollution.getLocalTemperature(getLevel(), getBlockPos()) - cachedMixture.getTemperature()) * vat.getConductance(); // Fourier's Law (sort of), the divide by 20 is for 20 ticks per second
+                energyChange += (outsideTemperature - cachedMixture.getTemperature()) * vat.getConductance(); // Fourier's Law (sort of), the divide by 20 is for 20 ticks per second
                 energyChange /= 20 * cyclesPerTick;
                 if (Math.abs(energyChange / (fluidAmount * cachedMixture.getVolumetricHeatCapacity())) > 0.001f && fluidAmount != 0d) { // Only bother heating if the temperature change will be somewhat significant
                     cachedMixture.heat(energyChange / (float)fluidAmount);
                     cachedMixture.disturbEquilibrium();
+                    heated = true;
                 } else {
                     break;
                 };
             };
 
-            // Take all Items out of the Inventory
-            List<ItemStack> availableItemStacks = new ArrayList<>();
-            for (int slot = 0; slot < inventory.getSlots(); slot++) {
-                ItemStack stack = inventory.getStackInSlot(slot);
-                if (!stack.isEmpty()) availableItemStacks.add(stack.copy());
-            };
+            // Reacting (unless this is done on a worker thread)
+            if (!cachedMixture.isAtEquilibrium() && !VatReactionScheduler.isEnabled()) {
 
-            ReactionContext context = new ReactionContext(availableItemStacks, UVPower, false);
+                // Take all Items out of the Inventory
+                List<ItemStack> availableItemStacks = new ArrayList<>();
+                for (int slot = 0; slot < inventory.getSlots(); slot++) {
+                    ItemStack stack = inventory.getStackInSlot(slot);
+                    if (!stack.isEmpty()) availableItemStacks.add(stack.copy());
+                };
 
-            // Reacting
-            if (!cachedMixture.isAtEquilibrium()) {
+                ReactionContext context = new ReactionContext(availableItemStacks, UVPower, false);
 
                 // Dissolve new items
                 availableItemStacks = cachedMixture.dissolveItems(context, fluidAmount);
@@ -232,11 +338,11 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
                 shouldUpdateFluidMixture = true;
 
                 if (!cachedMixture.isAtEquilibrium()) advancementBehaviour.awardDestroyAdvancement(DestroyAdvancementTrigger.USE_VAT);
-            };
 
-            // Put all Items back in the Inventory
-            for (ItemStack itemStack : availableItemStacks) {
-                ItemHandlerHelper.insertItemStacked(inventory, itemStack, false);
+                // Put all Items back in the Inventory
+                for (ItemStack itemStack : availableItemStacks) {
+                    ItemHandlerHelper.insertItemStacked(inventory, itemStack, false);
+                };
             };
 
             if (shouldUpdateFluidMixture) {
@@ -244,20 +350,167 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
                 cachedMixture.getCompletedResults(fluidAmount).entrySet().forEach(entry -> {
                     for (int i = 0; i < entry.getValue(); i++) entry.getKey().onVatReaction(getLevel(), this);
                 });
-                updateFluidMixture();
+                fluidMixtureChanged = true; // Don't write the Mixture to the Fluid until something needs it
             };
 
             // Releasing gas if there is an open vent
             VatSideBlockEntity openVent = getOpenVent();
+            boolean releasedGas = false;
+            if (openVent != null) updateFluidMixtureIfChanged(); // The vent needs to know how much gas there is
             if (openVent != null && !getGasTank().isEmptyOrFullOfAir()) {
                 PollutionHelper.pollute(getLevel(), openVent.getBlockPos().relative(openVent.direction), 10, flush());
                 updateCachedMixture();
+                releasedGas = true;
             };
 
             // Check for Explosion
-            if (DestroyAllConfigs.SERVER.blocks.vatExplodesAtHighPressure.get() && Math.abs(getPercentagePressure()) >= 1f) explode();
+            boolean canExplode = DestroyAllConfigs.SERVER.blocks.vatExplodesAtHighPressure.get();
+            if (canExplode) {
+                if (cachedMixture.isAtEquilibrium()) updateFluidMixtureIfChanged(); // The pressure is read from the gas, which may be a few ticks old, so make sure it's up to date before this Vat might go dormant
+                if (Math.abs(getPercentagePressure()) >= 1f) explode();
+            };
 
-            sendData();
+            // Start reacting on a worker thread, now that nothing else will change the Mixture this tick
+            if (getVatOptional().isPresent() && !cachedMixture.isAtEquilibrium() && VatReactionScheduler.isEnabled()) submitReaction(fluidAmount);
+
+            // Let clients see the Mixture change every so often
+            if (fluidMixtureChanged && getLevel().getGameTime() - fluidMixtureLastUpdated >= FLUID_MIXTURE_SYNC_INTERVAL) updateFluidMixture();
+
+            syncStatus();
+
+            // Go dormant if nothing happened this tick
+            if (!heated && !releasedGas && getVatOptional().isPresent() && cachedMixture.isAtEquilibrium()) {
+                updateFluidMixtureIfChanged();
+                if (canExplode && Math.abs(getPercentagePressure()) >= 1f) return; // Never go dormant while the pressure is too high, so this Vat still explodes
+                dormant = true;
+                dormantSince = getLevel().getGameTime();
+                dormantOutsideTemperature = outsideTemperature;
+            };
+        };
+    };
+
+    /**
+     * Start reacting a copy of the cached Mixture on a worker thread, with copies of the Items in this Vat.
+     * @param fluidAmount In liters
+     */
+    protected void submitReaction(double fluidAmount) {
+        pendingReactionItemStacks = new ArrayList<>(inventory.getSlots());
+        List<ItemStack> availableItemStacks = new ArrayList<>();
+        for (int slot = 0; slot < inventory.getSlots(); slot++) {
+            ItemStack stack = inventory.getStackInSlot(slot).copy();
+            pendingReactionItemStacks.add(stack);
+            if (!stack.isEmpty()) availableItemStacks.add(stack.copy()); // The worker thread gets its own copies, as it will change them
+        };
+
+        pendingReactionMixture = cachedMixture;
+        pendingReactionDisturbed = false;
+        pendingReaction = VatReactionScheduler.submit(cachedMixture.copy(), availableItemStacks, UVPower, fluidAmount, getSimulationLevel());
+    };
+
+    /**
+     * Replace the cached Mixture with the copy reacted on a worker thread, and take the Items it used up out of the inventory. This should only be called once the reaction is done.
+     * If the Items it used up have since been taken out of the Vat, the reacted copy is thrown away instead.
+     * @return Whether the cached Mixture was replaced, in which case its Results should be enacted and the Fluid updated
+     */
+    protected boolean collectPendingReaction() {
+        VatReactionScheduler.Result result;
+        try {
+            result = pendingReaction.join();
+        } catch (CompletionException e) {
+            Destroy.LOGGER.error("Error reacting Mixture in Vat at " + getBlockPos(), e.getCause());
+            cancelPendingReaction();
+            return false;
+        };
+
+        if (pendingReactionMixture != cachedMixture) { // The Mixture changed while the copy was reacting, so the reacted copy is out of date
+            cancelPendingReaction();
+            return false;
+        };
+
+        // Work out how many Items were used up in each slot
+        int[] usedUp = new int[pendingReactionItemStacks.size()];
+        int remainingIndex = 0;
+        for (int slot = 0; slot < usedUp.length; slot++) {
+            ItemStack submittedStack = pendingReactionItemStacks.get(slot);
+            if (submittedStack.isEmpty()) continue;
+            ItemStack remainingStack = result.remainingItemStacks().get(remainingIndex++); // The remaining Items are in the same order as the Items submitted
+            usedUp[slot] = submittedStack.getCount() - remainingStack.getCount();
+            if (usedUp[slot] <= 0) continue;
+            ItemStack stack = inventory.getStackInSlot(slot);
+            if (!ItemStack.isSameItemSameTags(stack, submittedStack) || stack.getCount() < usedUp[slot]) { // The Items which were used up have been taken out since, so the reacted copy is out of date
+                cancelPendingReaction();
+                return false;
+            };
+        };
+
+        pendingReaction = null;
+        pendingReactionMixture = null;
+        pendingReactionItemStacks = null;
+        for (int slot = 0; slot < usedUp.length; slot++) {
+            if (usedUp[slot] <= 0) continue;
+            ItemStack stack = inventory.getStackInSlot(slot).copy();
+            stack.shrink(usedUp[slot]);
+            inventory.setStackInSlot(slot, stack);
+        };
+
+        cachedMixture = result.mixture();
+        if (pendingReactionDisturbed) cachedMixture.disturbEquilibrium();
+        if (!cachedMixture.isAtEquilibrium()) advancementBehaviour.awardDestroyAdvancement(DestroyAdvancementTrigger.USE_VAT);
+        return true;
+    };
+
+    /**
+     * Forget any {@link VatControllerBlockEntity#pendingReaction reaction on a worker thread}. The Items it was given never left the inventory, so nothing is lost.
+     */
+    protected void cancelPendingReaction() {
+        if (pendingReaction == null) return;
+        pendingReaction.cancel(false);
+        pendingReaction = null;
+        pendingReactionMixture = null;
+        pendingReactionItemStacks = null;
+    };
+
+    /**
+     * Whether the temperature outside this {@link VatControllerBlockEntity#dormant dormant} Vat has changed since it became dormant.
+     * This is only actually checked every {@link VatControllerBlockEntity#DORMANT_TEMPERATURE_CHECK_INTERVAL few ticks}.
+     */
+    @SuppressWarnings("null")
+    protected boolean hasOutsideTemperatureChanged() {
+        if ((getLevel().getGameTime() - dormantSince) % DORMANT_TEMPERATURE_CHECK_INTERVAL != 0) return false; // It thinks getLevel() might be null (it's not)
+        return Pollution.getLocalTemperature(getLevel(), getBlockPos()) != dormantOutsideTemperature;
+    };
+
+    /**
+     * Stop this Vat being {@link VatControllerBlockEntity#dormant dormant}. The heat it would have exchanged with its surroundings and its heater
+     * while it was dormant is added all at once, with the closed form of Newton's Law of Cooling rather than by replaying every tick.
+     * This should be called before anything which could change the Mixture, its heating or its surroundings.
+     */
+    @SuppressWarnings("null")
+    public void wakeUp() {
+        if (!dormant) return;
+        dormant = false;
+        if (!hasLevel() || getLevel().isClientSide() || cachedMixture == null || getVatOptional().isEmpty()) return; // It thinks getLevel() might be null (it's not)
+
+        double fluidAmount = getCapacity() / Constants.MILLIBUCKETS_PER_LITER;
+        double heatCapacity = fluidAmount * cachedMixture.getVolumetricHeatCapacity(); // In joules per kelvin
+        long elapsedTicks = getLevel().getGameTime() - dormantSince;
+        if (elapsedTicks <= 0l || fluidAmount == 0d || heatCapacity <= 0d) return;
+
+        double seconds = elapsedTicks / 20d;
+        double conductance = getVatOptional().get().getConductance();
+        double oldTemperature = cachedMixture.getTemperature();
+        double newTemperature;
+        if (conductance > 0d) { // Newton's Law of Cooling, tending towards the temperature at which the heater and the surroundings balance
+            double steadyTemperature = dormantOutsideTemperature + heatingPower / conductance;
+            newTemperature = steadyTemperature + (oldTemperature - steadyTemperature) * Math.exp(-conductance * seconds / heatCapacity);
+        } else {
+            newTemperature = oldTemperature + heatingPower * seconds / heatCapacity;
+        };
+
+        double energyChange = (newTemperature - oldTemperature) * heatCapacity;
+        if (Math.abs(newTemperature - oldTemperature) > 0.001d) { // As when ticking, only bother heating if the temperature change is somewhat significant
+            cachedMixture.heat((float)(energyChange / fluidAmount));
+            cachedMixture.disturbEquilibrium();
         };
     };
 
@@ -280,6 +533,7 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
 
     @Override
     protected void read(CompoundTag tag, boolean clientPacket) {
+        if (clientPacket) tag = MixtureWireFormat.expand(tag);
         super.read(tag, clientPacket);
 
         heatingPower = tag.getFloat("HeatingPower");
@@ -299,10 +553,7 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
 
         // Mixture
         if (clientPacket) {
-            pressure.chase(tag.getFloat("Pressure"), 0.125f, Chaser.EXP);
-            temperature.chase(tag.getFloat("Temperature"), 0.125f, Chaser.EXP);
-            cachedMixtureBoiling = tag.getBoolean("AnythingBoiling");
-            cachedMixtureReacting = tag.getBoolean("AnythingReacting");
+            receiveStatus(tag.getFloat("Pressure"), tag.getFloat("Temperature"), tag.getBoolean("AnythingBoiling"), tag.getBoolean("AnythingReacting"));
         } else {
             if (tag.contains("VentPos", Tag.TAG_COMPOUND)) openVentPos = NbtUtils.readBlockPos(tag.getCompound("VentPos"));
             updateCachedMixture();
@@ -312,6 +563,7 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
     @Override
     @SuppressWarnings("null")
     protected void write(CompoundTag tag, boolean clientPacket) {
+        if (!clientPacket) updateFluidMixtureIfChanged(); // Make sure the latest Mixture is saved. Any pending reaction carries on, as its Items are still in the inventory
         super.write(tag, clientPacket);
 
         tag.putFloat("HeatingPower", heatingPower);
@@ -332,15 +584,90 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
         if (!getLevel().isClientSide()) { // It thinks getLevel() might be null (it's not)
             tag.putFloat("Pressure", getPressure());
             tag.putFloat("Temperature", getTemperature());
-            tag.putBoolean("AnythingBoiling", cachedMixture != null && cachedMixture.isBoiling());
-            tag.putBoolean("AnythingReacting", cachedMixture != null && !cachedMixture.isAtEquilibrium());
+            tag.putBoolean("AnythingBoiling", isMixtureBoiling());
+            tag.putBoolean("AnythingReacting", isMixtureReacting());
         };
 
         if (openVentPos != null) tag.put("VentPos", NbtUtils.writeBlockPos(openVentPos));
+
+        if (clientPacket) MixtureWireFormat.compress(tag);
+    };
+
+    /**
+     * Send this whole Vat Controller to clients, unless it was sent in the last {@link VatControllerBlockEntity#FULL_SYNC_INTERVAL few ticks},
+     * in which case it is sent once that many ticks have passed.
+     */
+    @Override
+    @SuppressWarnings("null")
+    public void sendData() {
+        if (!hasLevel() || getLevel().isClientSide()) { // It thinks getLevel() might be null (it's not)
+            super.sendData();
+            return;
+        };
+        long time = getLevel().getGameTime();
+        if (time - lastFullSync < FULL_SYNC_INTERVAL) {
+            fullSyncPending = true;
+            return;
+        };
+        lastFullSync = time;
+        fullSyncPending = false;
+        if (getVatOptional().isPresent()) {
+            syncedTanksHash = getTanksHash();
+            syncedPressure = getPressure();
+            syncedTemperature = getTemperature();
+            syncedBoiling = isMixtureBoiling();
+            syncedReacting = isMixtureReacting();
+        };
+        super.sendData();
+    };
+
+    /**
+     * Send the pressure and temperature of this Vat and whether it is boiling or reacting to clients, if any have changed enough to see since they were last sent.
+     * This is much smaller than {@link VatControllerBlockEntity#sendData sending} the whole Vat Controller.
+     */
+    @SuppressWarnings("null")
+    protected void syncStatus() {
+        if (fullSyncPending || getVatOptional().isEmpty()) return; // It will all be sent soon anyway
+        float currentPressure = getPressure();
+        float currentTemperature = getTemperature();
+        boolean boiling = isMixtureBoiling();
+        boolean reacting = isMixtureReacting();
+        if (Math.abs(currentPressure - syncedPressure) < PRESSURE_SYNC_THRESHOLD && Math.abs(currentTemperature - syncedTemperature) < TEMPERATURE_SYNC_THRESHOLD && boiling == syncedBoiling && reacting == syncedReacting) return;
+        syncedPressure = currentPressure;
+        syncedTemperature = currentTemperature;
+        syncedBoiling = boiling;
+        syncedReacting = reacting;
+        DestroyMessages.sendToClientsTrackingChunk(new VatStatusS2CPacket(getBlockPos(), currentPressure, currentTemperature, boiling, reacting), getLevel().getChunkAt(getBlockPos())); // It thinks getLevel() might be null (it's not)
+    };
+
+    /**
+     * Set the pressure and temperature of this Vat and whether it is boiling or reacting on the client side.
+     */
+    public void receiveStatus(float pressure, float temperature, boolean boiling, boolean reacting) {
+        this.pressure.chase(pressure, 0.125f, Chaser.EXP);
+        this.temperature.chase(temperature, 0.125f, Chaser.EXP);
+        cachedMixtureBoiling = boiling;
+        cachedMixtureReacting = reacting;
+    };
+
+    protected boolean isMixtureBoiling() {
+        return cachedMixture != null && cachedMixture.isBoiling();
+    };
+
+    protected boolean isMixtureReacting() {
+        return cachedMixture != null && !cachedMixture.isAtEquilibrium();
+    };
+
+    /**
+     * A hash of the Fluids in this Vat as they were last written, so they are only sent to clients if they have changed.
+     */
+    protected int getTanksHash() {
+        return 31 * getLiquidTank().getFluidWithoutUpdating().hashCode() + getGasTank().getFluidWithoutUpdating().hashCode();
     };
 
     private void onFluidStackChanged() {
         if (!vat.isPresent()) return;
+        wakeUp();
         notifyUpdate();
     };
 
@@ -377,26 +704,41 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
 
     /**
      * Set the cached Mixture to the Mixture stored in the NBT of the contained Fluids.
+     * Reading the Fluids first writes any {@link VatControllerBlockEntity#fluidMixtureChanged changes} to the cached Mixture, so none are lost.
      * @see VatControllerBlockEntity#updateFluidMixture Doing the opposite
      */
     public void updateCachedMixture() {
         LegacyMixture emptyMixture = new LegacyMixture();
         if (!getVatOptional().isPresent()) {
             cachedMixture = emptyMixture;
+            dormant = false;
+            fluidMixtureChanged = false;
             return;
         };
         cachedMixture = tankBehaviour.getCombinedMixture();
+        wakeUp(); // The heat exchanged while dormant goes into the Mixture as it is now
+    };
+
+    /**
+     * Set the Mixture stored in the NBT of the contained Fluids to the cached Mixture, if it has {@link VatControllerBlockEntity#fluidMixtureChanged changed}.
+     * This is called before anything reads or drains the contained Fluids.
+     */
+    public void updateFluidMixtureIfChanged() {
+        if (fluidMixtureChanged) updateFluidMixture();
     };
 
     /**
      * Set the Mixture stored in the NBT of the contained Fluids to the cached Mixture.
      * @see VatControllerBlockEntity#updateCachedMixture Doing the opposite
      */
+    @SuppressWarnings("null")
     private void updateFluidMixture() {
+        fluidMixtureChanged = false; // Before setting the Mixture, as that reads the Fluids
         if (getVatOptional().isEmpty()) return;
+        fluidMixtureLastUpdated = getLevel().getGameTime(); // It thinks getLevel() might be null (it's not)
         tankBehaviour.setMixture(cachedMixture, vat.get().getCapacity()); //TODO swap Fluid to not use entire vat capacity
         updateGasVolume();
-        sendData();
+        if (getTanksHash() != syncedTanksHash) sendData();
     };
 
     /**
@@ -478,6 +820,7 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
             pollutionPos = posDestroyed.relative(vatSideOptional.get().direction);
         };
 
+        cancelPendingReaction();
         ItemHelper.dropContents(getLevel(), posDestroyed, inventory);
         itemCapability.invalidate();
         removeVent();
@@ -500,6 +843,7 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
         UVPower = 0f;
 
         cachedMixture = new LegacyMixture();
+        fluidMixtureChanged = false;
         vat = Optional.empty();
         underDeconstruction = false;
         invalidateRenderBoundingBox(); // Update the render bounding box to be smaller
@@ -541,6 +885,7 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
      */
     @SuppressWarnings("null")
     public void removeVent() {
+        wakeUp();
         openVentPos = null;
         if (!hasLevel() || getVatOptional().isEmpty()) return;
         getVatOptional().get().getSideBlockPositions().forEach(pos -> {
@@ -589,11 +934,14 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
     };
 
     public void changeHeatingPower(float powerChange) {
+        wakeUp();
         heatingPower += powerChange;
         sendData();
     };
 
     public void changeUVPower(float UVChange) {
+        wakeUp();
+        if (pendingReaction != null) pendingReactionDisturbed = true;
         UVPower += UVChange;
         if (cachedMixture != null) cachedMixture.disturbEquilibrium();
         sendData();
@@ -629,6 +977,7 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
 
     /**
      * Get the pressure above room pressure of the gas in this Vat (in Pa).
+     * On the server this is read from the gas as it was last {@link VatControllerBlockEntity#updateFluidMixture written}, so it can lag the cached Mixture by a few ticks.
      */
     @SuppressWarnings("null")
     public float getPressure() {
@@ -637,7 +986,7 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
         if (getGasTank().isEmpty()) {
             return getLiquidTank().getFluidAmount() == getLiquidTank().getCapacity() ? 0f : AIR_PRESSURE; // Return 0 for a vacuum, and normal air pressure for a full Vat
         };
-        return LegacyReaction.GAS_CONSTANT * 1000f * getTemperature() * ReadOnlyMixture.readNBT(ReadOnlyMixture::new, getGasTank().getFluid().getOrCreateChildTag("Mixture")).getTotalConcentration() - AIR_PRESSURE;
+        return LegacyReaction.GAS_CONSTANT * 1000f * getTemperature() * ReadOnlyMixture.readNBT(ReadOnlyMixture::new, getGasTank().getFluidWithoutUpdating().getOrCreateChildTag("Mixture")).getTotalConcentration() - AIR_PRESSURE;
     };
 
     /**
@@ -27,6 +27,11 @@ public class VatFluidTankBehaviour extends GeniusFluidTankBehaviour {
     protected boolean liquidFull;
     protected int vatCapacity;
 
+    /**
+     * Run before anything reads or drains the Fluid in either tank, so the owner can write any changes it has not yet written.
+     */
+    protected Runnable fluidObservedCallback;
+
     public VatFluidTankBehaviour(VatControllerBlockEntity be, int vatCapacity) {
         super(SmartFluidTankBehaviour.TYPE, be, 2, vatCapacity, false);
 
@@ -39,10 +44,20 @@ public class VatFluidTankBehaviour extends GeniusFluidTankBehaviour {
         capability = LazyOptional.of(() -> new VatFluidHandler(handlers));
 
         liquidFull = false;
+        fluidObservedCallback = () -> {};
 
         this.vatCapacity = vatCapacity;
     };
 
+    /**
+     * Set what to do before anything reads or drains the Fluid in either tank.
+     * @param fluidObservedCallback This may itself change the Fluid
+     */
+    public VatFluidTankBehaviour whenFluidObserved(Runnable fluidObservedCallback) {
+        this.fluidObservedCallback = fluidObservedCallback;
+        return this;
+    };
+
     public VatFluidTank getLiquidHandler() {
         return getLiquidTank().getTank();
     };
@@ -175,6 +190,7 @@ public class VatFluidTankBehaviour extends GeniusFluidTankBehaviour {
         @Override
 		public int fill(FluidStack resource, FluidAction action) {
             if (!DestroyFluids.isMixture(resource)) return 0;
+            fluidObservedCallback.run(); // The existing Fluid gets mixed with what is added, so it must be up to date
 
             boolean simulate = action == FluidAction.SIMULATE;
 
@@ -273,8 +289,28 @@ public class VatFluidTankBehaviour extends GeniusFluidTankBehaviour {
                 if (stack.getAmount() < getCapacity() && !isForGas) liquidFull = false;
             };
 
+            @Override
+            public FluidStack getFluid() {
+                fluidObservedCallback.run();
+                return super.getFluid();
+            };
+
+            /**
+             * Get the Fluid in this tank without first letting the owner write any changes to it, so it may be out of date.
+             */
+            public FluidStack getFluidWithoutUpdating() {
+                return fluid;
+            };
+
+            @Override
+            public FluidStack drain(FluidStack resource, FluidAction action) {
+                fluidObservedCallback.run();
+                return super.drain(resource, action);
+            };
+
             @Override
             public FluidStack drain(int maxDrain, FluidAction action) {
+                fluidObservedCallback.run();
                 return super.drain(maxDrain, action);
             };
         };
@@ -1,7 +1,10 @@
 package com.petrolpark.destroy.capability;
 
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import org.jetbrains.annotations.NotNull;
@@ -16,9 +19,12 @@ import com.petrolpark.destroy.util.DestroyTags.DestroyFluidTags;
 import com.simibubi.create.foundation.blockEntity.behaviour.scrollValue.INamedIconOptions;
 import com.simibubi.create.foundation.gui.AllIcons;
 import com.simibubi.create.foundation.utility.Lang;
+import com.simibubi.create.foundation.utility.WorldAttached;
 
+import it.unimi.dsi.fastutil.longs.Long2FloatLinkedOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.core.QuartPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.tags.TagKey;
 import net.minecraft.util.Mth;
@@ -34,8 +40,14 @@ public class Pollution {
 
     public static Capability<Pollution> CAPABILITY = CapabilityManager.get(new CapabilityToken<Pollution>() {});
 
+    private static final WorldAttached<LocalTemperatures> LOCAL_TEMPERATURES = new WorldAttached<>(level -> new LocalTemperatures((net.minecraft.world.level.Level)level));
+
     protected final boolean local;
     protected EnumMap<PollutionType, Integer> levels;
+    /**
+     * The types of Pollution whose values have changed since they were last {@link Pollution#takeChanges sent to clients}.
+     */
+    protected final Set<PollutionType> changed = EnumSet.noneOf(PollutionType.class);
 
     protected Pollution(boolean local) {
         this.local = local;
@@ -65,7 +77,7 @@ public class Pollution {
         if (pollutionType == null) return 0;
         checkLocal(pollutionType);
         value = Mth.clamp(value, 0, pollutionType.max);
-        levels.replace(pollutionType, value);
+        if (levels.replace(pollutionType, value) != value) changed.add(pollutionType);
         return value;
     };
 
@@ -82,6 +94,41 @@ public class Pollution {
         return set(pollutionType, levels.get(pollutionType) + change);
     };
     
+    /**
+     * Whether any type of Pollution has changed since they were last {@link Pollution#takeChanges sent to clients}.
+     */
+    public boolean hasChanged() {
+        return !changed.isEmpty();
+    };
+
+    /**
+     * Get the values of the types of Pollution which have changed since this was last called, and forget that they changed.
+     */
+    public Map<PollutionType, Integer> takeChanges() {
+        Map<PollutionType, Integer> changes = new EnumMap<>(PollutionType.class);
+        for (PollutionType pollutionType : changed) changes.put(pollutionType, levels.get(pollutionType));
+        changed.clear();
+        return changes;
+    };
+
+    /**
+     * Get the values of all types of Pollution.
+     */
+    public Map<PollutionType, Integer> getAll() {
+        return new EnumMap<>(levels);
+    };
+
+    /**
+     * Set the values of some types of Pollution, as sent from the server.
+     * This does not clamp the values or mark them as changed.
+     */
+    public void loadChanges(Map<PollutionType, Integer> changes) {
+        changes.forEach((pollutionType, value) -> {
+            checkLocal(pollutionType);
+            levels.replace(pollutionType, value);
+        });
+    };
+
     public void saveNBTData(CompoundTag tag) {
         levels.forEach((pollutionType, value) -> {
             tag.putInt(pollutionType.name(), value);
@@ -145,6 +192,14 @@ public class Pollution {
             return outdoorTemperature;
         };
 
+        /**
+         * Set the values of some types of Pollution and the resulting outdoor temperature, as sent from the server.
+         */
+        public void loadChanges(Map<PollutionType, Integer> changes, float outdoorTemperature) {
+            loadChanges(changes);
+            this.outdoorTemperature = outdoorTemperature;
+        };
+
         public static class Provider extends Pollution.Provider<Pollution.Level> {
 
             public Provider() {
@@ -221,15 +276,55 @@ public class Pollution {
     /**
      * Get the outdoor ("room") temperature at the given position, accounting for the change in temperature due to pollution
      * and the natural heat of the Biome at that position.
+     * This is called every tick by anything which exchanges heat with the outside, so the Level's Pollution and the heat of the Biome at each position
+     * are {@link LocalTemperatures cached}.
      * @param level
      * @param pos
      * @return Temperature in kelvins
      * @see Pollution#getGlobalTemperature Get the temperature not accounting for the Biome
      */
     public static float getLocalTemperature(net.minecraft.world.level.Level level, BlockPos pos) {
-        return level.getCapability(CAPABILITY).map(pollution -> {
-            return ((Pollution.Level)pollution).getOutdoorTemperature() + (10f * level.getBiome(pos).get().getBaseTemperature());
-        }).orElse(289f);
+        return LOCAL_TEMPERATURES.get(level).get(pos);
+    };
+
+    /**
+     * The Level's global Pollution (whose outdoor temperature is always up to date) and the heat of the Biome in each 4x4x4 cell of Biome storage anything has asked about,
+     * so every position in the same cell shares one entry.
+     */
+    protected static class LocalTemperatures {
+
+        /**
+         * The most Biome cells for which the heat of the Biome is remembered. Any more and the one used least recently is forgotten.
+         */
+        protected static final int MAX_CELLS = 4096;
+
+        protected final net.minecraft.world.level.Level level;
+        protected Pollution.Level levelPollution;
+        protected final Long2FloatLinkedOpenHashMap biomeTemperatures;
+
+        protected LocalTemperatures(net.minecraft.world.level.Level level) {
+            this.level = level;
+            biomeTemperatures = new Long2FloatLinkedOpenHashMap();
+            biomeTemperatures.defaultReturnValue(Float.NaN);
+        };
+
+        protected float get(BlockPos pos) {
+            if (levelPollution == null) {
+                levelPollution = level.getCapability(CAPABILITY).resolve().map(pollution -> (Pollution.Level)pollution).orElse(null);
+                if (levelPollution == null) return 289f;
+            };
+            int quartX = QuartPos.fromBlock(pos.getX());
+            int quartY = QuartPos.fromBlock(pos.getY());
+            int quartZ = QuartPos.fromBlock(pos.getZ());
+            long key = BlockPos.asLong(quartX, quartY, quartZ);
+            float biomeTemperature = biomeTemperatures.getAndMoveToLast(key);
+            if (Float.isNaN(biomeTemperature)) {
+                if (biomeTemperatures.size() >= MAX_CELLS) biomeTemperatures.removeFirstFloat(); // Forget the cell used least recently
+                biomeTemperature = 10f * level.getNoiseBiome(quartX, quartY, quartZ).get().getBaseTemperature();
+                biomeTemperatures.putAndMoveToLast(key, biomeTemperature);
+            };
+            return levelPollution.getOutdoorTemperature() + biomeTemperature;
+        };
     };
 
     public enum PollutionType implements INamedIconOptions {
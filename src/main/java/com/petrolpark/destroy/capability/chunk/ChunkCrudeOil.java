@@ -13,7 +13,6 @@ import net.minecraft.util.RandomSource;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.chunk.LevelChunk;
-import net.minecraft.world.level.levelgen.synth.PerlinNoise;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.CapabilityManager;
 import net.minecraftforge.common.capabilities.CapabilityToken;
@@ -30,17 +29,13 @@ public class ChunkCrudeOil {
 
     /**
      * Get the amount of oil generated in this chunk. This does not account for if oil has been pumped out.
+     * This is {@link CrudeOilField cached}, so is cheap to call repeatedly.
      * @param level
      * @param chunkX
      * @param chunkZ
      */
     public static int getTheoreticalOil(ServerLevel level, int chunkX, int chunkZ) {
-        // Get the seeded randomizer for this level
-        RandomSource random = RandomSource.create(level.getSeed() ^ SALT);
-        // Generate the noise value for this Chunk
-        double value = (PerlinNoise.create(random, -2, 1d).getValue(chunkX * 1.5d, chunkZ * 1.5d, 0));
-        // Don't generate any oil if the value is less than a threshold
-        return value < 0.3d ? 0 : (int)(value * 100000d);
+        return CrudeOilField.get(level).getTheoreticalOil(chunkX, chunkZ);
     };
 
     /**
@@ -84,9 +79,15 @@ public class ChunkCrudeOil {
         boolean[][] redHerring = new boolean[10][3];
         int widthAxis = xNotZ ? chunkZ : chunkX;
         int lengthAxis = xNotZ ? chunkX : chunkZ;
+        int minLength = SeismographItem.mapChunkLowerCorner(lengthAxis) - 1;
+        if (xNotZ) {
+            CrudeOilField.get(level).precompute(minLength, widthAxis - 1, minLength + 9, widthAxis + 1);
+        } else {
+            CrudeOilField.get(level).precompute(widthAxis - 1, minLength, widthAxis + 1, minLength + 9);
+        };
         for (int width = 0; width < 3; width++) {
             for (int length = 0; length < 10; length++) {
-                int lengthCoordinate = SeismographItem.mapChunkLowerCorner(lengthAxis) - 1 + length;
+                int lengthCoordinate = minLength + length;
                 int widthCoordinate = widthAxis - 1 + width;
                 int x = xNotZ ? lengthCoordinate : widthCoordinate;
                 int z = xNotZ ? widthCoordinate : lengthCoordinate;
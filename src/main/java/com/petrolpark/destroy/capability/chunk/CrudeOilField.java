@@ -0,0 +1,83 @@
+package com.petrolpark.destroy.capability.chunk;
+
+import com.simibubi.create.foundation.utility.WorldAttached;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.levelgen.synth.PerlinNoise;
+
+/**
+ * The {@link ChunkCrudeOil#getTheoreticalOil theoretical amount of Crude Oil} in every chunk of a Level.
+ * The noise is only built once per Level, and the amount in each chunk is only worked out once and then remembered,
+ * as the Seismograph, Pumpjacks and the {@code /crudeoil} command all ask for the same chunks again and again.
+ * <p>This is safe to access from multiple threads.</p>
+ */
+public class CrudeOilField {
+
+    /**
+     * The most chunks whose amounts are remembered at once, after which they are all forgotten.
+     */
+    public static final int MAX_CACHED_CHUNKS = 1 << 16;
+
+    private static final WorldAttached<CrudeOilField> fields = new WorldAttached<>(level -> new CrudeOilField(((ServerLevel)level).getSeed()));
+
+    public static CrudeOilField get(ServerLevel level) {
+        synchronized (fields) { // WorldAttached is not thread-safe
+            return fields.get(level);
+        };
+    };
+
+    protected final long seed;
+    protected final PerlinNoise noise;
+    protected final Long2IntOpenHashMap amounts;
+
+    protected CrudeOilField(long seed) {
+        this.seed = seed;
+        noise = PerlinNoise.create(RandomSource.create(seed ^ ChunkCrudeOil.SALT), -2, 1d);
+        amounts = new Long2IntOpenHashMap();
+        amounts.defaultReturnValue(-1);
+    };
+
+    /**
+     * Get the amount of Crude Oil generated in the given chunk, working it out if it hasn't been already.
+     * @param chunkX
+     * @param chunkZ
+     */
+    public int getTheoreticalOil(int chunkX, int chunkZ) {
+        long key = ChunkPos.asLong(chunkX, chunkZ);
+        synchronized (amounts) { // This may be called off the main thread
+            int amount = amounts.get(key);
+            if (amount >= 0) return amount;
+        };
+        int amount = calculate(chunkX, chunkZ);
+        synchronized (amounts) {
+            if (amounts.size() >= MAX_CACHED_CHUNKS) amounts.clear();
+            amounts.put(key, amount);
+        };
+        return amount;
+    };
+
+    /**
+     * Work out the amount of Crude Oil in every chunk in the given rectangle (inclusive) ahead of time, so it can be got quickly afterwards.
+     */
+    public void precompute(int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ) {
+        synchronized (amounts) {
+            if (amounts.size() + (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1) > MAX_CACHED_CHUNKS) amounts.clear();
+            for (int x = minChunkX; x <= maxChunkX; x++) {
+                for (int z = minChunkZ; z <= maxChunkZ; z++) {
+                    long key = ChunkPos.asLong(x, z);
+                    if (!amounts.containsKey(key)) amounts.put(key, calculate(x, z));
+                };
+            };
+        };
+    };
+
+    protected int calculate(int chunkX, int chunkZ) {
+        // Generate the noise value for this Chunk
+        double value = noise.getValue(chunkX * 1.5d, chunkZ * 1.5d, 0);
+        // Don't generate any oil if the value is less than a threshold
+        return value < 0.3d ? 0 : (int)(value * 100000d);
+    };
+};
@@ -1,10 +1,18 @@
 package com.petrolpark.destroy.capability.level.pollution;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.petrolpark.destroy.block.color.SmogAffectedBlockColor;
 import com.petrolpark.destroy.capability.Pollution;
 import com.petrolpark.destroy.capability.Pollution.PollutionType;
+import com.petrolpark.destroy.mixin.accessor.ClientLevelAccessor;
 
 import net.minecraft.client.Minecraft;
-import net.minecraft.client.renderer.chunk.ChunkRenderDispatcher.RenderChunk;
+import net.minecraft.client.color.block.BlockTintCache;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.ColorResolver;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 
@@ -13,18 +21,64 @@ public class ClientLevelPollutionData {
     
     private static Pollution levelPollution;
 
-    private static Integer lastRenderedSmogLevel = null;
+    /**
+     * The proportion of the maximum Smog level in each chunk, for {@link SmogAffectedBlockColor coloring Blocks}. This is read by the threads which build chunk meshes,
+     * so it must be safe to access from multiple threads.
+     */
+    private static final Map<Long, Float> chunkSmog = new ConcurrentHashMap<>();
 
     public static void setLevelPollution(Pollution levelPollution) {
         ClientLevelPollutionData.levelPollution = levelPollution;
-        if (lastRenderedSmogLevel == null || Math.abs(lastRenderedSmogLevel - levelPollution.get(PollutionType.SMOG)) >= 1000) {
-            Minecraft mc = Minecraft.getInstance();
-            for (RenderChunk chunk : mc.levelRenderer.viewArea.chunks) chunk.setDirty(false); // Re-render all chunks
-            lastRenderedSmogLevel = levelPollution.get(PollutionType.SMOG);
-        };
     };
 
     public static Pollution getLevelPollution() {
         return levelPollution;
     };
+
+    /**
+     * Get how smoggy the given chunk is, without looking up the chunk.
+     * @return {@code 0} (no Smog) to {@code 1} (maximum Smog)
+     */
+    public static float getChunkSmog(int chunkX, int chunkZ) {
+        return chunkSmog.getOrDefault(ChunkPos.asLong(chunkX, chunkZ), 0f);
+    };
+
+    public static void setChunkSmog(ChunkPos pos, int smog) {
+        if (smog <= 0) {
+            chunkSmog.remove(pos.toLong());
+        } else {
+            chunkSmog.put(pos.toLong(), (float)smog / PollutionType.SMOG.max);
+        };
+    };
+
+    public static void forgetChunk(ChunkPos pos) {
+        chunkSmog.remove(pos.toLong());
+    };
+
+    public static void forgetAllChunks() {
+        chunkSmog.clear();
+    };
+
+    /**
+     * Re-render the Blocks colored by Smog in and around the given chunk: those in the chunk itself, and those close enough to it that its color is
+     * {@link net.minecraft.client.Options#biomeBlendRadius blended} into theirs.
+     */
+    public static void rerenderSmog(ChunkPos pos) {
+        Minecraft mc = Minecraft.getInstance();
+        ClientLevel level = mc.level;
+        if (level == null) return;
+        int blendChunks = mc.options.biomeBlendRadius().get() > 0 ? 1 : 0; // The blend radius is never more than a chunk
+        Map<ColorResolver, BlockTintCache> tintCaches = ((ClientLevelAccessor)level).getTintCaches();
+        for (int chunkX = pos.x - blendChunks; chunkX <= pos.x + blendChunks; chunkX++) {
+            for (int chunkZ = pos.z - blendChunks; chunkZ <= pos.z + blendChunks; chunkZ++) {
+                for (ColorResolver resolver : SmogAffectedBlockColor.RESOLVERS) {
+                    BlockTintCache tintCache = tintCaches.get(resolver);
+                    if (tintCache != null) tintCache.invalidateForChunk(chunkX, chunkZ);
+                };
+                for (int sectionY = level.getMinSection(); sectionY < level.getMaxSection(); sectionY++) {
+                    mc.levelRenderer.setSectionDirty(chunkX, sectionY, chunkZ);
+                };
+            };
+        };
+    };
 }
@@ -3,24 +3,20 @@ package com.petrolpark.destroy.chemistry.legacy;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
-import java.util.Set;
-
 import com.google.common.collect.ImmutableList;
 import com.petrolpark.destroy.Destroy;
-import com.petrolpark.destroy.chemistry.api.error.ChemistryException;
 import com.petrolpark.destroy.chemistry.api.util.Constants;
-import com.petrolpark.destroy.chemistry.legacy.genericreaction.DoubleGroupGenericReaction;
 import com.petrolpark.destroy.chemistry.legacy.genericreaction.GenericReactant;
 import com.petrolpark.destroy.chemistry.legacy.genericreaction.GenericReaction;
-import com.petrolpark.destroy.chemistry.legacy.genericreaction.SingleGroupGenericReaction;
 import com.petrolpark.destroy.chemistry.legacy.index.DestroyMolecules;
 import com.petrolpark.destroy.chemistry.legacy.reactionresult.NovelCompoundSynthesizedReactionResult;
+import com.petrolpark.destroy.config.DestroyChemistryConfigs;
+import com.petrolpark.destroy.config.DestroyChemistryConfigs.KineticsSolver;
 import com.petrolpark.destroy.recipe.ReactionInBasinRecipe.ReactionInBasinResult;
 import com.simibubi.create.foundation.utility.NBTHelper;
 import com.simibubi.create.foundation.utility.Pair;
@@ -34,6 +30,14 @@ import net.minecraft.world.item.ItemStack;
 public class LegacyMixture extends ReadOnlyMixture {
 
     protected static final int TICKS_PER_SECOND = 20;
+    /**
+     * The most ticks a Mixture is {@link LegacyMixture#reactInBasin reacted} for in a Basin.
+     */
+    protected static final int MAX_BASIN_TICKS = 600;
+    /**
+     * The heat conductance (in watts per kelvin) between a Basin and its surroundings.
+     */
+    protected static final float BASIN_CONDUCTANCE = 100f;
 
     /**
      * A Map of all {@link ReactionResult Results} of {@link LegacyReaction Reactions} generated in this Mixture, mapped
@@ -59,6 +63,12 @@ public class LegacyMixture extends ReadOnlyMixture {
      */
     protected Map<LegacyFunctionalGroupType<?>, List<GenericReactant<?>>> groupIDsAndMolecules;
 
+    /**
+     * Keeps track of the {@link LegacyReaction Reactions} {@link GenericReaction Generic Reactions} have generated for this Mixture,
+     * so they only need to be generated for {@link LegacySpecies Molecules} which are new.
+     */
+    protected final LegacyPossibleReactionManager possibleReactionManager;
+
     /**
      * Whether this Mixture has reached equilibrium. This means either:
      * <ul>
@@ -86,18 +96,83 @@ public class LegacyMixture extends ReadOnlyMixture {
      */
     Map<LegacySpecies, Integer> moleculesToRemove;
 
+    /*
+     * Scratch space for reacting, kept between cycles and ticks so reacting doesn't allocate anything.
+     */
+
+    /**
+     * The concentration of each slot of the {@link ReadOnlyMixture#mixtureContents contents} at the start of a {@link LegacyMixture#reactForTick cycle}.
+     */
+    private float[] oldConcentrations;
+    /**
+     * The {@link LegacyReaction Reactions} happening in the current cycle, and their rates, and their indices in order of rate.
+     */
+    private LegacyReaction[] cycleReactions = new LegacyReaction[0];
+    private float[] cycleReactionRates = new float[0];
+    private int[] cycleReactionOrder = new int[0];
+    private int[] cycleReactionOrderBuffer = new int[0];
+    /**
+     * Whether each of the {@link LegacyMixture#possibleReactions possible Reactions} can happen without consuming Items and has all the Item catalysts it needs.
+     * This is worked out once per tick, and again if the possible Reactions change.
+     */
+    private boolean[] reactionsWithItemsAvailable = new boolean[0];
+    private List<LegacyReaction> reactionsWithItemsAvailableFor = null;
+    /**
+     * Used instead of reacting each Reaction in turn if the {@link DestroyChemistryConfigs#kineticsSolver kinetics solver} is set to {@link KineticsSolver#ROSENBROCK Rosenbrock}.
+     * This is only created when it is first needed.
+     */
+    private RosenbrockKineticsSolver stiffKineticsSolver = null;
+    /**
+     * Whether the {@link LegacyMixture#stiffKineticsSolver stiff solver} got through the whole of the last cycle it solved, rather than giving up part way.
+     */
+    private boolean stiffSolveComplete = true;
+    /**
+     * Whether it has already been logged that the {@link LegacyMixture#stiffKineticsSolver stiff solver} gave up part way, so the log isn't flooded every tick.
+     */
+    private static boolean warnedStiffSolveIncomplete = false;
+
     public LegacyMixture() {
         super();
         reactionResults = new HashMap<>();
         novelMolecules = new ArrayList<>();
         possibleReactions = new ArrayList<>();
         groupIDsAndMolecules = new HashMap<>();
+        possibleReactionManager = new LegacyPossibleReactionManager(this);
         nextHigherBoilingPoint = Pair.of(Float.MAX_VALUE, null);
         nextLowerBoilingPoint = Pair.of(0f, null);
         moleculesToRemove = new HashMap<>();
         equilibrium = false;
     };
 
+    /**
+     * Copy everything about another Mixture, including which {@link LegacyReaction Reactions} are possible in it, so the copy can be reacted independently.
+     * @param mixture
+     * @see LegacyMixture#copy
+     */
+    protected LegacyMixture(LegacyMixture mixture) {
+        super(mixture);
+        reactionResults = new HashMap<>(mixture.reactionResults);
+        novelMolecules = new ArrayList<>(mixture.novelMolecules);
+        possibleReactions = new ArrayList<>(mixture.possibleReactions);
+        groupIDsAndMolecules = new HashMap<>();
+        for (Entry<LegacyFunctionalGroupType<?>, List<GenericReactant<?>>> entry : mixture.groupIDsAndMolecules.entrySet()) {
+            groupIDsAndMolecules.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        };
+        possibleReactionManager = new LegacyPossibleReactionManager(this, mixture.possibleReactionManager);
+        nextHigherBoilingPoint = mixture.nextHigherBoilingPoint;
+        nextLowerBoilingPoint = mixture.nextLowerBoilingPoint;
+        moleculesToRemove = new HashMap<>(mixture.moleculesToRemove);
+        equilibrium = mixture.equilibrium;
+    };
+
+    /**
+     * Get an independent copy of this Mixture, which is much quicker than writing and {@link LegacyMixture#readNBT reading} it.
+     * {@link LegacySpecies Molecules} and {@link LegacyReaction Reactions} are shared between the two.
+     */
+    public LegacyMixture copy() {
+        return new LegacyMixture(this);
+    };
+
     /**
      * Get a Mixture containing only the given Molecule, unless it is charged, in which case get a Mixture
      * containing the sodium salt or chloride of the ion.
@@ -117,14 +192,23 @@ public class LegacyMixture extends ReadOnlyMixture {
         return mixture;
     };
 
+    /**
+     * Generates a Mixture from the given Compound Tag. If a tag with the same contents has been read before,
+     * the Mixture (including which {@link LegacyReaction Reactions} are possible in it) is {@link LegacyMixture#copy copied} from the {@link MixtureNBTCache} instead.
+     * @param compound
+     * @return A new Mixture instance
+     */
     public static LegacyMixture readNBT(CompoundTag compound) {
-        LegacyMixture mixture = new LegacyMixture();
-        
         if (compound == null) {
             Destroy.LOGGER.warn("Null Mixture loaded");
-            return mixture;
+            return new LegacyMixture();
         };
 
+        boolean cache = MixtureNBTCache.isEnabled();
+        if (cache && MixtureNBTCache.get(LegacyMixture.class, compound) instanceof LegacyMixture cachedMixture) return cachedMixture.copy();
+
+        LegacyMixture mixture = new LegacyMixture();
+
         mixture.translationKey = compound.getString("TranslationKey"); // Set to "" if the key is not present
 
         if (compound.contains("Temperature")) mixture.temperature = compound.getFloat("Temperature");
@@ -162,6 +246,7 @@ public class LegacyMixture extends ReadOnlyMixture {
         mixture.refreshPossibleReactions();
         mixture.updateNextBoilingPoints();
 
+        if (cache) MixtureNBTCache.put(compound, mixture.copy());
         return mixture;
     };
 
@@ -189,11 +274,11 @@ public class LegacyMixture extends ReadOnlyMixture {
     public LegacyMixture setTemperature(float temperature) {
         this.temperature = temperature;
         // Ensure everything has the right state
-        for (LegacySpecies molecule : contents.keySet()) {
-            if (molecule.getBoilingPoint() < temperature) {
-                states.put(molecule, 1f);
+        for (int slot = 0; slot < mixtureContents.size(); slot++) {
+            if (mixtureContents.getMolecule(slot).getBoilingPoint() < temperature) {
+                mixtureContents.setState(slot, 1f);
             } else {
-                states.put(molecule, 0f);
+                mixtureContents.setState(slot, 0f);
             };
         };
         return this; 
@@ -312,11 +397,26 @@ public class LegacyMixture extends ReadOnlyMixture {
     /**
      * Reacts the contents of this Mixture for one tick, if it is not already at {@link LegacyMixture#equilibrium equilibrium}.
      * @param context
-     * @param cycles Number of times each tick the reactions should be enacted
+     * @param cycles Number of times each tick the reactions should be enacted. This is ignored if the {@link DestroyChemistryConfigs#kineticsSolver kinetics solver}
+     * is {@link KineticsSolver#ROSENBROCK Rosenbrock}, which solves the whole tick at once
      */
     public void reactForTick(ReactionContext context, int cycles) {
+        boolean stiff = DestroyChemistryConfigs.kineticsSolver() == KineticsSolver.ROSENBROCK;
+        react(context, stiff ? 1 : cycles, stiff, 1);
+    };
+
+    /**
+     * Reacts the contents of this Mixture, if it is not already at {@link LegacyMixture#equilibrium equilibrium}.
+     * @param context
+     * @param cycles Number of times the reactions should be enacted
+     * @param stiff Whether to use the {@link RosenbrockKineticsSolver stiff solver} rather than enacting each Reaction in turn
+     * @param ticks How many ticks each cycle lasts. This can only be more than {@code 1} if the stiff solver is used. This Mixture is at equilibrium
+     * if no concentration changed noticeably over the whole cycle, however long it lasts
+     */
+    private void react(ReactionContext context, int cycles, boolean stiff, int ticks) {
 
         boolean shouldUpdateDisplay = true;
+        if (!equilibrium) updateReactionsWithItemsAvailable(context); // The available Items may have changed since last tick
 
         for (int cycle = 0; cycle < cycles; cycle++) {
 
@@ -326,56 +426,21 @@ public class LegacyMixture extends ReadOnlyMixture {
             };
 
             equilibrium = true; // Start by assuming we have reached equilibrium
-            boolean shouldRefreshPossibleReactions = false; // Rather than refreshing the possible Reactions every time a new Molecule is added or removed, start by assuming we won't need to, and flag for refreshing if we ever do
-
-            Map<LegacySpecies, Float> oldContents = new HashMap<>(contents); // Copy all the old concentrations of everything
-
-            Map<LegacyReaction, Float> reactionRates = new HashMap<>(); // Rates of all Reactions
-            List<LegacyReaction> orderedReactions = new ArrayList<>(); // A list of Reactions in the order of their current rate, fastest first
 
-            orderEachReaction: for (LegacyReaction possibleReaction : possibleReactions) {
-                if (possibleReaction.consumesItem()) continue orderEachReaction; // Don't include Reactions which CONSUME Items at this stage
+            int oldSize = mixtureContents.size(); // Molecules are only added during a cycle, never removed, so the old slots stay the same
+            oldConcentrations = mixtureContents.copyConcentrations(oldConcentrations); // Copy all the old concentrations of everything
 
-                for (IItemReactant itemReactant : possibleReaction.getItemReactants()) { // Check all Reactions have the necessary Item catalysts
-                    boolean validStackFound = false; // Start by assuming we won't have the required Item Stack...
-                    checkAllItems: for (ItemStack stack : context.availableItemStacks) {
-                        if (itemReactant.isItemValid(stack)) {
-                            validStackFound = true; // ...If we do, correct this assumption
-                            break checkAllItems;
-                        };
-                    };
-                    if (!validStackFound) continue orderEachReaction; // If we don't have the requesite Item Stacks, don't do this Reaction
-                };
-
-                reactionRates.put(possibleReaction, calculateReactionRate(possibleReaction, context) / cycles); // Calculate the Reaction data for this sub-tick
-                orderedReactions.add(possibleReaction); // Add the Reaction to the rate-ordered list, which is currently not sorted
-            };
-
-            Collections.sort(orderedReactions, (r1, r2) -> reactionRates.get(r1).compareTo(reactionRates.get(r2))); // Sort the Reactions by rate
-
-            doEachReaction: for (LegacyReaction reaction : orderedReactions) { // Go through each Reaction, fastest first
+            if (reactionsWithItemsAvailableFor != possibleReactions) updateReactionsWithItemsAvailable(context); // If the possible Reactions have changed this tick
 
-                Float molesOfReaction = reactionRates.get(reaction); // We are reacting over one tick, so moles of Reaction that take place in this time = rate of Reaction in M per sub-tick
-
-                for (LegacySpecies reactant : reaction.getReactants()) {
-                    int reactantMolarRatio = reaction.getReactantMolarRatio(reactant);
-                    float reactantConcentration = getConcentrationOf(reactant);
-                    if (reactantConcentration < reactantMolarRatio * molesOfReaction) { // Determine the limiting reagent, if there is one
-                        molesOfReaction = reactantConcentration / (float) reactantMolarRatio; // If there is a new limiting reagent, alter the moles of reaction which will take place
-                    };
-                };
-
-                if (molesOfReaction <= 0f) continue doEachReaction; // Don't bother going any further if this Reaction won't happen
-
-                shouldRefreshPossibleReactions |= doReaction(reaction, molesOfReaction); // Increment the amount of this Reaction which has occured, add all products and remove all reactants
-            };
+            boolean shouldRefreshPossibleReactions = stiff ? reactCycleWithStiffSolver(context, ticks) : reactCycleExplicitly(context, cycles); // Rather than refreshing the possible Reactions every time a new Molecule is added or removed, flag for refreshing if we ever do
 
             // Check now if we have actually reached equilibrium or if that was a false assumption at the start
-            for (LegacySpecies molecule : oldContents.keySet()) {
-                if (!areVeryClose(oldContents.get(molecule), getConcentrationOf(molecule))) { // If there's something that has changed concentration noticeably in this tick...
+            for (int slot = 0; slot < oldSize; slot++) {
+                if (!areVeryClose(oldConcentrations[slot], mixtureContents.getConcentration(slot))) { // If there's something that has changed concentration noticeably in this tick...
                     equilibrium = false; // ...we cannot have reached equilibrium
                 };
             };
+            if (stiff && !stiffSolveComplete) equilibrium = false; // If the solver gave up part way through, there's still more reacting to do
 
             if (shouldRefreshPossibleReactions) { // If we added a new Molecule at any point
                 refreshPossibleReactions();
@@ -403,6 +468,172 @@ public class LegacyMixture extends ReadOnlyMixture {
         };
     };
 
+    /**
+     * Enact each of the {@link LegacyMixture#possibleReactions possible Reactions} which can happen in turn, slowest first, for one cycle.
+     * @param context
+     * @param cycles The number of cycles in this tick
+     * @return Whether the possible Reactions should be refreshed, as new Molecules have been added
+     */
+    private boolean reactCycleExplicitly(ReactionContext context, int cycles) {
+        boolean shouldRefreshPossibleReactions = false; // Start by assuming we won't need to refresh the possible Reactions
+
+        int reactionCount = 0;
+        for (int i = 0; i < possibleReactions.size(); i++) {
+            if (!reactionsWithItemsAvailable[i]) continue; // Don't include Reactions which CONSUME Items at this stage, or don't have the necessary Item catalysts
+            LegacyReaction possibleReaction = possibleReactions.get(i);
+            cycleReactions[reactionCount] = possibleReaction;
+            cycleReactionRates[reactionCount] = calculateReactionRate(possibleReaction, context) / cycles; // Calculate the Reaction data for this sub-tick
+            reactionCount++;
+        };
+
+        sortByRate(cycleReactionOrder, cycleReactionOrderBuffer, cycleReactionRates, reactionCount); // Sort the Reactions by rate
+
+        doEachReaction: for (int i = 0; i < reactionCount; i++) { // Go through each Reaction in order of rate
+
+            LegacyReaction reaction = cycleReactions[cycleReactionOrder[i]];
+            float molesOfReaction = cycleReactionRates[cycleReactionOrder[i]]; // We are reacting over one tick, so moles of Reaction that take place in this time = rate of Reaction in M per sub-tick
+
+            LegacyReaction.Coefficients reactants = reaction.getReactantCoefficients();
+            for (int j = 0; j < reactants.size(); j++) {
+                int reactantMolarRatio = reactants.values()[j];
+                float reactantConcentration = getConcentrationOf(reactants.molecules()[j]);
+                if (reactantConcentration < reactantMolarRatio * molesOfReaction) { // Determine the limiting reagent, if there is one
+                    molesOfReaction = reactantConcentration / (float) reactantMolarRatio; // If there is a new limiting reagent, alter the moles of reaction which will take place
+                };
+            };
+
+            if (molesOfReaction <= 0f) continue doEachReaction; // Don't bother going any further if this Reaction won't happen
+
+            shouldRefreshPossibleReactions |= doReaction(reaction, molesOfReaction); // Increment the amount of this Reaction which has occured, add all products and remove all reactants
+        };
+
+        return shouldRefreshPossibleReactions;
+    };
+
+    /**
+     * Work out how much of each of the {@link LegacyMixture#possibleReactions possible Reactions} happens over the whole cycle with
+     * the {@link RosenbrockKineticsSolver stiff solver}, and then enact that much of each of them.
+     * @param context
+     * @param ticks How many ticks the cycle lasts
+     * @return Whether the possible Reactions should be refreshed, as new Molecules have been added
+     */
+    private boolean reactCycleWithStiffSolver(ReactionContext context, int ticks) {
+        boolean shouldRefreshPossibleReactions = false;
+
+        int reactionCount = 0;
+        for (int i = 0; i < possibleReactions.size(); i++) {
+            if (!reactionsWithItemsAvailable[i]) continue; // Don't include Reactions which CONSUME Items at this stage, or don't have the necessary Item catalysts
+            cycleReactions[reactionCount] = possibleReactions.get(i);
+            cycleReactionRates[reactionCount] = calculateRateConstant(possibleReactions.get(i), context);
+            reactionCount++;
+        };
+        stiffSolveComplete = true;
+        if (reactionCount == 0) return false;
+
+        if (stiffKineticsSolver == null) stiffKineticsSolver = new RosenbrockKineticsSolver();
+        stiffSolveComplete = stiffKineticsSolver.solve(mixtureContents, cycleReactions, cycleReactionRates, reactionCount, ticks, DestroyChemistryConfigs.stiffSolverTolerance()); // If the solver gives up part way through the tick, enact how far it got and carry on from there next tick
+        if (!stiffSolveComplete && !warnedStiffSolveIncomplete) {
+            warnedStiffSolveIncomplete = true;
+            Destroy.LOGGER.warn("Stiff kinetics solver gave up part way through reacting a Mixture, so it will carry on next tick. Raising stiffSolverTolerance in the server config may help.");
+        };
+
+        // Set the new concentrations of all Molecules which were already in the Mixture
+        int solvedSize = stiffKineticsSolver.getSpeciesCount();
+        for (int slot = 0; slot < solvedSize; slot++) {
+            float newConcentration = (float)Math.max(stiffKineticsSolver.getConcentration(slot), 0d);
+            if (newConcentration == mixtureContents.getConcentration(slot)) continue;
+            mixtureContents.setConcentration(slot, newConcentration);
+            LegacySpecies molecule = mixtureContents.getMolecule(slot);
+            if (newConcentration <= 0f) moleculesToRemove.put(molecule, 10); // Mark this Molecule as imminent for removal, as in changeConcentrationOf
+            if (newConcentration > 0f) moleculesToRemove.remove(molecule);
+        };
+
+        // Add new products, and the heat and Results of each Reaction
+        double energyReleased = 0d; // Fast reversible Reactions can go a very long way in both directions, so add up their heat before losing precision to floats
+        for (int i = 0; i < reactionCount; i++) {
+            LegacyReaction reaction = cycleReactions[i];
+            float molesPerLiter = (float)stiffKineticsSolver.getExtent(i);
+            if (molesPerLiter <= 0f) continue;
+
+            LegacyReaction.Coefficients products = reaction.getProductCoefficients();
+            for (int j = 0; j < products.size(); j++) {
+                LegacySpecies product = products.molecules()[j];
+                int slot = mixtureContents.getSlot(product);
+                if (slot != -1 && slot < solvedSize) continue; // The concentration of this product has already been set
+                shouldRefreshPossibleReactions |= addProduct(product, molesPerLiter * products.values()[j]);
+            };
+
+            energyReleased -= reaction.getEnthalpyChange() * 1000d * stiffKineticsSolver.getExtent(i);
+            incrementReactionResults(reaction, molesPerLiter);
+        };
+        heat((float)energyReleased);
+
+        return shouldRefreshPossibleReactions;
+    };
+
+    /**
+     * Work out which of the {@link LegacyMixture#possibleReactions possible Reactions} can happen in {@link LegacyMixture#reactForTick reactForTick} - those
+     * which don't consume Items, and for which every Item catalyst is available - and make sure there is enough scratch space for all of them.
+     */
+    private void updateReactionsWithItemsAvailable(ReactionContext context) {
+        int possibleReactionCount = possibleReactions.size();
+        if (reactionsWithItemsAvailable.length < possibleReactionCount) {
+            int capacity = Math.max(possibleReactionCount, reactionsWithItemsAvailable.length * 2);
+            reactionsWithItemsAvailable = new boolean[capacity];
+            cycleReactions = new LegacyReaction[capacity];
+            cycleReactionRates = new float[capacity];
+            cycleReactionOrder = new int[capacity];
+            cycleReactionOrderBuffer = new int[capacity];
+        };
+
+        checkEachReaction: for (int i = 0; i < possibleReactionCount; i++) {
+            reactionsWithItemsAvailable[i] = false;
+            LegacyReaction possibleReaction = possibleReactions.get(i);
+            if (possibleReaction.consumesItem()) continue checkEachReaction;
+
+            for (IItemReactant itemReactant : possibleReaction.getItemReactants()) { // Check all Reactions have the necessary Item catalysts
+                boolean validStackFound = false; // Start by assuming we won't have the required Item Stack...
+                checkAllItems: for (ItemStack stack : context.availableItemStacks) {
+                    if (itemReactant.isItemValid(stack)) {
+                        validStackFound = true; // ...If we do, correct this assumption
+                        break checkAllItems;
+                    };
+                };
+                if (!validStackFound) continue checkEachReaction; // If we don't have the requesite Item Stacks, don't do this Reaction
+            };
+
+            reactionsWithItemsAvailable[i] = true;
+        };
+        reactionsWithItemsAvailableFor = possibleReactions;
+    };
+
+    /**
+     * Stable merge sort of the first {@code count} indices into {@code rates}, slowest first, without boxing the rates.
+     * @param order Filled with the sorted indices
+     * @param buffer Scratch space, at least as long as {@code count}
+     * @param rates
+     * @param count
+     */
+    private static void sortByRate(int[] order, int[] buffer, float[] rates, int count) {
+        for (int i = 0; i < count; i++) order[i] = i;
+        int[] from = order;
+        int[] to = buffer;
+        for (int width = 1; width < count; width *= 2) {
+            for (int low = 0; low < count; low += 2 * width) {
+                int middle = Math.min(low + width, count);
+                int high = Math.min(low + 2 * width, count);
+                int i = low, j = middle, k = low;
+                while (i < middle && j < high) to[k++] = Float.compare(rates[from[j]], rates[from[i]]) < 0 ? from[j++] : from[i++];
+                while (i < middle) to[k++] = from[i++];
+                while (j < high) to[k++] = from[j++];
+            };
+            int[] swap = from;
+            from = to;
+            to = swap;
+        };
+        if (from != order) System.arraycopy(from, 0, order, 0, count);
+    };
+
     /**
      * Add or take heat from this Mixture. This will boil/condense Molecules and change the temperature.
      * @param energy In joules per bucket
@@ -423,18 +654,19 @@ public class LegacyMixture extends ReadOnlyMixture {
                 energyDensity -= temperatureChange * getVolumetricHeatCapacity(); // Energy leftover once the Mixture has been raised to the boiling point
 
                 LegacySpecies molecule = nextHigherBoilingPoint.getSecond();
-                float liquidConcentration = getConcentrationOf(molecule) * (1f - states.get(molecule)); // The moles per bucket of liquid Molecules
+                int slot = mixtureContents.getSlot(molecule);
+                float liquidConcentration = mixtureContents.getConcentration(slot) * (1f - mixtureContents.getState(slot)); // The moles per bucket of liquid Molecules
                 float energyRequiredToFullyBoil = liquidConcentration * molecule.getLatentHeat(); // The energy density required to boil all remaining liquid
 
                 if (energyDensity > energyRequiredToFullyBoil) { // If there is leftover energy once the Molecule has been boiled
-                    states.put(molecule, 1f); // Convert the Molecule fully to gas
+                    mixtureContents.setState(slot, 1f); // Convert the Molecule fully to gas
                     //temperature += 0.01f; // Increase the temperature slightly so the new next higher Molecule isn't the one we just finished boiling
                     updateNextBoilingPoints(true);
                     boiling = false; // If we're just increasing the temperature, then all Molecule are either fully gaseous or liquid
                     heat(energyDensity - energyRequiredToFullyBoil); // Continue heating
                 } else { // If there is no leftover energy and the Molecule is still boiling
-                    float boiled = energyDensity / (molecule.getLatentHeat() * getConcentrationOf(molecule)); // The proportion of all of the Molecule which is additionally boiled
-                    states.merge(molecule, boiled, (f1, f2) -> f1 + f2);
+                    float boiled = energyDensity / (molecule.getLatentHeat() * mixtureContents.getConcentration(slot)); // The proportion of all of the Molecule which is additionally boiled
+                    mixtureContents.setState(slot, mixtureContents.getState(slot) + boiled);
                     boiling = true; // Set the fact that there is a Molecule which will be not fully gaseous or liquid
                 };
 
@@ -451,18 +683,19 @@ public class LegacyMixture extends ReadOnlyMixture {
                 energyDensity -= temperatureChange * getVolumetricHeatCapacity(); // Additional energy once the Mixture has been lowered to the condensation point
 
                 LegacySpecies molecule = nextLowerBoilingPoint.getSecond();
-                float gasConcentration = getConcentrationOf(molecule) * states.get(molecule);
+                int slot = mixtureContents.getSlot(molecule);
+                float gasConcentration = mixtureContents.getConcentration(slot) * mixtureContents.getState(slot);
                 float energyReleasedWhenFullyCondensed = gasConcentration * molecule.getLatentHeat(); // The energy density which could be released when all remaining gas is condensed
 
                 if (energyDensity < -energyReleasedWhenFullyCondensed) { // If there is more energy that needs to be released than the condensation can supply
-                    states.put(molecule, 0f); // Convert the Molecule fully to liquid
+                    mixtureContents.setState(slot, 0f); // Convert the Molecule fully to liquid
                     //temperature -= 0.01f; // Decrease the temperature slightly so the new next lower Molecule isn't the one we just finished condensing
                     updateNextBoilingPoints(true);
                     boiling = false; // If we're just increasing the temperature, then all Molecule are either fully gaseous or liquid
                     heat(energyDensity + energyReleasedWhenFullyCondensed); // Continue cooling
                 } else {
-                    float condensed = -energyDensity / (molecule.getLatentHeat() * getConcentrationOf(molecule));
-                    states.merge(molecule, 1f - condensed, (f1, f2) -> f1 + f2 - 1f);
+                    float condensed = -energyDensity / (molecule.getLatentHeat() * mixtureContents.getConcentration(slot));
+                    mixtureContents.setState(slot, mixtureContents.getState(slot) - condensed);
                     boiling = true; // Set the fact that a Molecule is currently not fully gaseous or liquid
                 };
 
@@ -679,22 +912,14 @@ public class LegacyMixture extends ReadOnlyMixture {
 
         boolean shouldRefreshPossibleReactions = false;
 
-        for (LegacySpecies reactant : reaction.getReactants()) {
-            changeConcentrationOf(reactant, - (molesPerLiter * reaction.getReactantMolarRatio(reactant)), false); // Use up the right amount of all the reagents
+        LegacyReaction.Coefficients reactants = reaction.getReactantCoefficients();
+        for (int i = 0; i < reactants.size(); i++) {
+            changeConcentrationOf(reactants.molecules()[i], - (molesPerLiter * reactants.values()[i]), false); // Use up the right amount of all the reagents
         };
 
-        addEachProduct: for (LegacySpecies product : reaction.getProducts()) {
-            if (product.isNovel() && getConcentrationOf(product) == 0f) { // If we have a novel Molecule that we don't think currently exists in the Mixture...
-                if (internalAddMolecule(product, molesPerLiter * reaction.getProductMolarRatio(product), false)) { // ...add it with this method, as this automatically checks for pre-existing novel Molecules, and if it was actually a brand new Molecule...
-                    shouldRefreshPossibleReactions = true; // ...flag this
-                }; 
-                continue addEachProduct;
-            };
-
-            if (!contents.containsKey(product)) { // If we are adding a new product, the possible Reactions will change
-                shouldRefreshPossibleReactions = true;
-            };
-            changeConcentrationOf(product, molesPerLiter * reaction.getProductMolarRatio(product), false); // Increase the concentration of the product
+        LegacyReaction.Coefficients products = reaction.getProductCoefficients();
+        for (int i = 0; i < products.size(); i++) {
+            shouldRefreshPossibleReactions |= addProduct(products.molecules()[i], molesPerLiter * products.values()[i]);
         };
 
         heat(-reaction.getEnthalpyChange() * 1000 * molesPerLiter);
@@ -703,6 +928,22 @@ public class LegacyMixture extends ReadOnlyMixture {
         return shouldRefreshPossibleReactions;
     };
 
+    /**
+     * Increase the concentration of a product of a {@link LegacyReaction}.
+     * @param product
+     * @param concentration In moles per Bucket
+     * @return Whether this is a new Molecule, meaning the possible Reactions need refreshing
+     */
+    private boolean addProduct(LegacySpecies product, float concentration) {
+        if (product.isNovel() && getConcentrationOf(product) == 0f) { // If we have a novel Molecule that we don't think currently exists in the Mixture...
+            return internalAddMolecule(product, concentration, false); // ...add it with this method, as this automatically checks for pre-existing novel Molecules, and flag if it was actually a brand new Molecule
+        };
+
+        boolean newProduct = !mixtureContents.contains(product); // If we are adding a new product, the possible Reactions will change
+        changeConcentrationOf(product, concentration, false); // Increase the concentration of the product
+        return newProduct;
+    };
+
     /**
      * Increase the number of moles of this Reaction which have occured in this Mixture.
      * @param reaction
@@ -716,6 +957,13 @@ public class LegacyMixture extends ReadOnlyMixture {
 
     /**
      * {@link LegacyMixture#reactForTick React} this Mixture until it reaches {@link LegacyMixture#equilibrium equilibrium}. This is mutative.
+     * <p>Rather than reacting tick by tick, this usually solves ever longer stretches of ticks (1, 2, 4, 8...) at once with the {@link RosenbrockKineticsSolver stiff solver},
+     * heating the Mixture over each stretch with the closed form of Newton's Law of Cooling, so it takes a handful of solves to reach equilibrium rather than hundreds of ticks.
+     * The last tick of each stretch is solved on its own, and once nothing changes noticeably in it the stretch is bisected to find the first tick in which nothing did,
+     * so the number of ticks it took is the same as reacting tick by tick.</p>
+     * <p>This reacts tick by tick as before unless the {@link KineticsSolver#ROSENBROCK Rosenbrock} kinetics solver is configured, while any possible Reaction
+     * {@link LegacyReaction#consumesItem consumes Items} or has a {@link ReactionResult Result}, which depend on the exact amounts reacting each tick, and while anything
+     * is or would start boiling, which the closed form doesn't account for.</p>
      * @return A {@link com.petrolpark.destroy.recipe.ReactionInBasinRecipe.ReactionInBasinResult ReactionInBasinResult} containing
      * the number of ticks it took to reach equilibrium, the {@link ReactionResult Reaction Results} and the new volume of Mixture.
      * @param volume (in liters) of this Reaction
@@ -729,9 +977,20 @@ public class LegacyMixture extends ReadOnlyMixture {
 
         ReactionContext context = new ReactionContext(availableStacks, 0f, false); 
         dissolveItems(context, volumeInLiters); // Dissolve all Items
-        while (!equilibrium && ticks < 600) { // React the Mixture
+        int stretch = 1;
+        boolean stiff = DestroyChemistryConfigs.kineticsSolver() == KineticsSolver.ROSENBROCK; // Only the stiff solver can solve many ticks at once, so otherwise react tick by tick as configured
+        while (!equilibrium && ticks < MAX_BASIN_TICKS) { // React the Mixture
+            if (stiff && canReactInBasinInStretches(heatingPower, outsideTemperature)) {
+                int stretchTicks = Math.min(stretch, MAX_BASIN_TICKS - ticks);
+                LegacyMixture stretchStart = stretchTicks > 1 ? copy() : null;
+                int reactedTicks = reactInBasinForTicks(context, stretchTicks, volume, heatingPower, outsideTemperature);
+                if (equilibrium && stretchStart != null) reactedTicks = findBasinEquilibriumTick(stretchStart, context, stretchTicks, volume, heatingPower, outsideTemperature); // Count only the ticks it took to reach equilibrium, as reacting tick by tick would
+                ticks += reactedTicks;
+                stretch = reactedTicks == stretchTicks ? stretch * 2 : Math.max(1, stretch / 2);
+                continue;
+            };
             float energyChange = heatingPower / TICKS_PER_SECOND;
-            energyChange += (outsideTemperature - temperature) * 100f / TICKS_PER_SECOND; // Fourier's Law (sort of), the Basin has a fixed conductance of 100 andthe divide by 20 is for 20 ticks per second
+            energyChange += (outsideTemperature - temperature) * BASIN_CONDUCTANCE / TICKS_PER_SECOND; // Fourier's Law (sort of), the divide by 20 is for 20 ticks per second
             if (Math.abs(energyChange) > 0.0001f) {
                 heat(1000 * energyChange / volume); // 1000 converts getFluidAmount() in mB to Buckets
             };
@@ -746,6 +1005,96 @@ public class LegacyMixture extends ReadOnlyMixture {
         return new ReactionInBasinResult(ticks, getCompletedResults(amount), amount);
     };
 
+    /**
+     * {@link LegacyMixture#reactInBasin React in a Basin} for several ticks at once with the {@link RosenbrockKineticsSolver stiff solver}. The last tick is solved on its own,
+     * so this Mixture is at {@link LegacyMixture#equilibrium equilibrium} only if nothing changed noticeably in that tick, just as if it had reacted tick by tick.
+     * @param context
+     * @param ticks
+     * @param volume In mB
+     * @param heatingPower In watts
+     * @param outsideTemperature In kelvins
+     * @return How many ticks were actually reacted, which is fewer than asked if the solver gave up part way
+     */
+    private int reactInBasinForTicks(ReactionContext context, int ticks, int volume, float heatingPower, float outsideTemperature) {
+        int reactedTicks = 0;
+        if (ticks > 1) {
+            reactedTicks = reactInBasinStretch(context, ticks - 1, volume, heatingPower, outsideTemperature);
+            if (reactedTicks < ticks - 1) return reactedTicks;
+            disturbEquilibrium(); // Only the last tick decides whether this Mixture is at equilibrium
+        };
+        return reactedTicks + reactInBasinStretch(context, 1, volume, heatingPower, outsideTemperature);
+    };
+
+    /**
+     * Solve the given number of ticks at once and then {@link LegacyMixture#heatInBasin heat} this Mixture over however many of them the solver got through.
+     * @return How many ticks the solver got through
+     */
+    private int reactInBasinStretch(ReactionContext context, int ticks, int volume, float heatingPower, float outsideTemperature) {
+        react(context, 1, true, ticks);
+        if (!stiffSolveComplete) ticks = Math.max(1, (int)stiffKineticsSolver.getSolvedTime());
+        heatInBasin(ticks, volume, heatingPower, outsideTemperature);
+        return ticks;
+    };
+
+    /**
+     * Find the first tick of a stretch at which a Mixture reacting in a Basin reached {@link LegacyMixture#equilibrium equilibrium}, by bisecting with copies of it from the start of the stretch.
+     * @param stretchStart A copy of the Mixture from the start of the stretch, when it was not at equilibrium
+     * @param context
+     * @param ticks The length of the stretch, by the end of which the Mixture was at equilibrium
+     * @param volume In mB
+     * @param heatingPower In watts
+     * @param outsideTemperature In kelvins
+     * @return How many ticks into the stretch equilibrium was first reached
+     */
+    private static int findBasinEquilibriumTick(LegacyMixture stretchStart, ReactionContext context, int ticks, int volume, float heatingPower, float outsideTemperature) {
+        int notAtEquilibrium = 0;
+        int atEquilibrium = ticks;
+        while (atEquilibrium - notAtEquilibrium > 1) {
+            int middle = (notAtEquilibrium + atEquilibrium) / 2;
+            LegacyMixture trial = stretchStart.copy();
+            if (trial.reactInBasinForTicks(context, middle, volume, heatingPower, outsideTemperature) == middle && trial.equilibrium) {
+                atEquilibrium = middle;
+            } else {
+                notAtEquilibrium = middle;
+            };
+        };
+        return atEquilibrium;
+    };
+
+    /**
+     * Whether {@link LegacyMixture#reactInBasin reacting in a Basin} can solve many ticks at once, which it can't if any possible
+     * {@link LegacyReaction Reaction} consumes Items or has a {@link ReactionResult Result}, or if anything is or will start {@link LegacyMixture#boiling boiling}
+     * on the way to the temperature at which the heater and the surroundings balance, as {@link LegacyMixture#heatInBasin} doesn't account for latent heat.
+     * @param heatingPower In watts
+     * @param outsideTemperature In kelvins
+     */
+    private boolean canReactInBasinInStretches(float heatingPower, float outsideTemperature) {
+        if (boiling) return false;
+        float steadyTemperature = outsideTemperature + heatingPower / BASIN_CONDUCTANCE;
+        if (steadyTemperature > temperature && nextHigherBoilingPoint.getSecond() != null && nextHigherBoilingPoint.getFirst() <= steadyTemperature) return false;
+        if (steadyTemperature < temperature && nextLowerBoilingPoint.getSecond() != null && nextLowerBoilingPoint.getFirst() >= steadyTemperature) return false;
+        for (LegacyReaction reaction : possibleReactions) {
+            if (reaction.consumesItem() || reaction.hasResult()) return false;
+        };
+        return true;
+    };
+
+    /**
+     * Exchange heat with the heater below and the surroundings of a Basin over several ticks at once, using the closed form of Newton's Law of Cooling.
+     * @param ticks
+     * @param volume In mB
+     * @param heatingPower In watts
+     * @param outsideTemperature In kelvins
+     */
+    private void heatInBasin(int ticks, int volume, float heatingPower, float outsideTemperature) {
+        float volumetricHeatCapacity = getVolumetricHeatCapacity();
+        if (volumetricHeatCapacity <= 0f || volume <= 0) return;
+        double steadyTemperature = outsideTemperature + heatingPower / BASIN_CONDUCTANCE; // The temperature at which the heater and the surroundings balance
+        double coolingRate = BASIN_CONDUCTANCE * 1000d / (TICKS_PER_SECOND * volume * volumetricHeatCapacity); // Per tick; 1000 converts mB to Buckets
+        double newTemperature = steadyTemperature + (temperature - steadyTemperature) * Math.exp(-coolingRate * ticks);
+        if (Math.abs(newTemperature - temperature) > 0.001d) heat((float)((newTemperature - temperature) * volumetricHeatCapacity));
+    };
+
     /**
      * If any {@link LegacyMixture#reactionResults results} have had enough moles to have occured, remove them from the Mixture and return them here.
      * This is mutative.
@@ -781,11 +1130,7 @@ public class LegacyMixture extends ReadOnlyMixture {
      * Get the heat capacity (in joules per bucket-kelvin) of this Mixture. Probably best to cache this instead of calling it repeatedly.
      */
     public float getVolumetricHeatCapacity() {
-        float totalHeatCapacity = 0f;
-        for (Entry<LegacySpecies, Float> entry : contents.entrySet()) {
-            totalHeatCapacity += entry.getKey().getMolarHeatCapacity() * entry.getValue();
-        };
-        return totalHeatCapacity;
+        return mixtureContents.getVolumetricHeatCapacity();
     };
 
     /**
@@ -795,7 +1140,8 @@ public class LegacyMixture extends ReadOnlyMixture {
     protected void updateNextBoilingPoints(boolean ignoreCurrentTemperature) {
         nextHigherBoilingPoint = Pair.of(Float.MAX_VALUE, null);
         nextLowerBoilingPoint = Pair.of(0f, null);
-        for (LegacySpecies molecule : contents.keySet()) {
+        for (int slot = 0; slot < mixtureContents.size(); slot++) {
+            LegacySpecies molecule = mixtureContents.getMolecule(slot);
             float bp = molecule.getBoilingPoint();
             if (bp < temperature || (bp == temperature && !ignoreCurrentTemperature)) {
                 if (bp > nextLowerBoilingPoint.getFirst()) nextLowerBoilingPoint = Pair.of(bp, molecule);
@@ -831,13 +1177,6 @@ public class LegacyMixture extends ReadOnlyMixture {
 
         if (!molecule.isNovel()) super.addMolecule(molecule, concentration);
 
-        List<LegacyFunctionalGroup<?>> functionalGroups = molecule.getFunctionalGroups();
-        if (functionalGroups.size() != 0) {
-            for (LegacyFunctionalGroup group : functionalGroups) { // Unparameterised raw type
-                addGroupToMixture(molecule, group); // Unchecked conversion
-            };
-        };
-
         if (molecule.isNovel()) { // If this is a novel Molecule, it might already match to one of our existing novel Molecules
             boolean found = false; // Start by assuming it's not already in the Mixture
             for (LegacySpecies novelMolecule : novelMolecules) { // Check every novel Molecule
@@ -857,6 +1196,16 @@ public class LegacyMixture extends ReadOnlyMixture {
             };
         };
 
+        if (newMoleculeAdded && contents.containsKey(molecule)) { // Only index the Groups of Molecules which actually made it into the Mixture
+            List<LegacyFunctionalGroup<?>> functionalGroups = molecule.getFunctionalGroups();
+            if (functionalGroups.size() != 0) {
+                for (LegacyFunctionalGroup group : functionalGroups) { // Unparameterised raw type
+                    addGroupToMixture(molecule, group); // Unchecked conversion
+                };
+            };
+            possibleReactionManager.componentAdded(molecule);
+        };
+
         if (shouldRefreshReactions && newMoleculeAdded) {
             refreshPossibleReactions();
         };
@@ -893,6 +1242,7 @@ public class LegacyMixture extends ReadOnlyMixture {
         if (molecule.isNovel()) novelMolecules.remove(molecule);
 
         contents.remove(molecule);
+        possibleReactionManager.componentRemoved(molecule);
         equilibrium = false; // As we have removed a Molecule the position of equilibrium is likely to change
         updateNextBoilingPoints();
 
@@ -907,14 +1257,16 @@ public class LegacyMixture extends ReadOnlyMixture {
      * @param shouldRefreshReactions Whether to alter the possible {@link LegacyReaction Reactions} in the case that a new Molecule is added to the Mixture (should almost always be {@code true})
      */
     private LegacyMixture changeConcentrationOf(LegacySpecies molecule, float change, boolean shouldRefreshReactions) {
-        Float currentConcentration = getConcentrationOf(molecule);
+        int slot = mixtureContents.getSlot(molecule);
+        float currentConcentration = slot == -1 ? 0f : mixtureContents.getConcentration(slot);
 
-        if (!contents.containsKey(molecule) && change > 0f) internalAddMolecule(molecule, change, shouldRefreshReactions);
+        if (slot == -1 && change > 0f) internalAddMolecule(molecule, change, shouldRefreshReactions);
 
         if (currentConcentration <= 0f && change < 0f) throw new IllegalArgumentException("Attempted to decrease concentration of Molecule '" + molecule.getFullID()+"', which was not in a Mixture. The Mixture contains " + getContentsString());
 
         float newConcentration = Math.max(currentConcentration + change, 0f);
-        contents.replace(molecule, newConcentration);
+        slot = mixtureContents.getSlot(molecule); // The Molecule may have just been added
+        if (slot != -1) mixtureContents.setConcentration(slot, newConcentration);
         if (newConcentration <= 0f) moleculesToRemove.put(molecule, 10); // Mark this Molecule as imminent for removal - but don't actually remove it in case it gets added back soon
         if (newConcentration > 0f) moleculesToRemove.remove(molecule); // This molecule no longer needs to be removed if it was going to be
         return this;
@@ -925,137 +1277,43 @@ public class LegacyMixture extends ReadOnlyMixture {
      * @param reaction
      */
     private float calculateReactionRate(LegacyReaction reaction, ReactionContext context) {
-        float rate = reaction.getRateConstant(temperature) / (float) TICKS_PER_SECOND;
-        for (LegacySpecies molecule : reaction.getOrders().keySet()) {
-            rate *= (float)Math.pow(getConcentrationOf(molecule), reaction.getOrders().get(molecule));
+        float rate = calculateRateConstant(reaction, context);
+        LegacyReaction.Coefficients orders = reaction.getOrderCoefficients();
+        for (int i = 0; i < orders.size(); i++) {
+            rate *= (float)Math.pow(getConcentrationOf(orders.molecules()[i]), orders.values()[i]);
         };
-        if (reaction.needsUV()) rate *= context.UVPower;
         return rate;
     };
 
     /**
-     * Determine all {@link LegacyReaction Reactions} - including {@link GenericReactions Generic Reactions} that are possible with the {@link LegacySpecies Molecules} in this Mixture,
-     * and update the {@link LegacyMixture#possibleReactions stored possible Reactions} accordingly.
-     * This should be called whenever new Molecules have been {@link LegacyMixture#addMolecule added} to the Mixture, or a Molecule has been removed entirely, but rarely otherwise.
+     * Get the rate constant of the given {@link LegacyReaction} in this Mixture, in the units of moles per Bucket per tick.
+     * This includes the effect of UV, but not the concentrations of any Molecules.
+     * @param reaction
+     * @param context
      */
-    private void refreshPossibleReactions() {
-        possibleReactions = new ArrayList<>();
-        Set<LegacyReaction> newPossibleReactions = new HashSet<>();
-
-        // Generate specific Generic Reactions
-        for (LegacyFunctionalGroupType<?> groupType : groupIDsAndMolecules.keySet()) { // Only search for Generic Reactions of Groups present in this Molecule
-            checkEachGenericReaction: for (GenericReaction genericReaction : LegacyFunctionalGroup.getReactionsOfGroupByID(groupType)) {
-
-                if (!genericReaction.isPossibleIn(this)) continue checkEachGenericReaction;
-
-                if (genericReaction.involvesSingleGroup()) { // Generic Reactions involving only one functional Group
-                    newPossibleReactions.addAll(specifySingleGroupGenericReactions(genericReaction, groupIDsAndMolecules.get(groupType)));
-                
-                } else { // Generic Reactions involving two functional Groups
-                    if (!(genericReaction instanceof DoubleGroupGenericReaction<?, ?> dggr)) continue checkEachGenericReaction; // This check should never fail
-                    if (groupType != dggr.getFirstGroupType()) continue checkEachGenericReaction; // Only generate Reactions when we're dealing with the first Group type
-                    
-                    LegacyFunctionalGroupType<?> secondGroupType = dggr.getSecondGroupType();
-                    if (!groupIDsAndMolecules.keySet().contains(secondGroupType)) continue checkEachGenericReaction; // We can't do this generic reaction if we only have one group type
-                    
-                    List<Pair<GenericReactant<?>, GenericReactant<?>>> reactantPairs = new ArrayList<>();
-                    for (GenericReactant<?> firstGenericReactant : groupIDsAndMolecules.get(groupType)) {
-                        for (GenericReactant<?> secondGenericReactant : groupIDsAndMolecules.get(secondGroupType)) {
-                            reactantPairs.add(Pair.of(firstGenericReactant, secondGenericReactant));
-                        };
-                    };
-
-                    newPossibleReactions.addAll(specifyDoubleGroupGenericReactions(dggr, reactantPairs));
-                };
-            };
-        };
-
-        //All Reactions
-        for (LegacySpecies possibleReactant : contents.keySet()) {
-            newPossibleReactions.addAll(possibleReactant.getReactantReactions());
-        };
-        for (LegacyReaction reaction : newPossibleReactions) {
-            //possibleReactions.add(reaction);
-
-            /* 
-             * This checks if all necessary Reactants were present before proceeding, however this leads to some infinite loops
-             * where one half of a reversible Reaction would happen one tick, then the other one the next, etc.
-             */ 
-            boolean reactionHasAllReactants = true;
-            for (LegacySpecies necessaryReactantOrCatalyst : reaction.getOrders().keySet()) {
-                if (getConcentrationOf(necessaryReactantOrCatalyst) == 0) {
-                    reactionHasAllReactants = false;
-                    break;
-                };
-            };
-            if (reactionHasAllReactants) {
-                possibleReactions.add(reaction);
-            };
-        };
-
+    private float calculateRateConstant(LegacyReaction reaction, ReactionContext context) {
+        float rateConstant = reaction.getRateConstant(temperature) / (float) TICKS_PER_SECOND;
+        if (reaction.needsUV()) rateConstant *= context.UVPower;
+        return rateConstant;
     };
 
     /**
-     * Given a {@link SingleGroupGenericReaction Generic Reaction} involving only one {@link LegacyFunctionalGroup functional Group},
-     * generates the specified {@link LegacyReaction Reactions} that apply to this Mixture.
-     * 
-     * <p>For example, if the Generic Reaction supplied is the {@link com.petrolpark.destroy.chemistry.legacy.index.genericreaction.SaturatedCarbonHydrolysis hydration of an alkene},
-     * and <b>reactants</b> includes {@code destroy:ethene}, the returned collection will include a Reaction with {@code destroy:ethene} and {@code destroy:water} as reactants,
-     * {@code destroy:ethanol} as a product, and all the appropriate rate constants and catalysts as defined in the {@link com.petrolpark.destroy.chemistry.index.SaturatedCarbonHydrolysis.AlkeneHydration#generateReaction generator}.</p>
-     * 
-     * @param <G> <b>G</b> The Group to which this Generic Reaction applies
-     * @param genericReaction
-     * @param reactants All {@link GenericReactant Reactants} that have the Group
-     * @return A Collection of all specified Reactions
+     * Determine all {@link LegacyReaction Reactions} - including {@link GenericReactions Generic Reactions} that are possible with the {@link LegacySpecies Molecules} in this Mixture,
+     * and update the {@link LegacyMixture#possibleReactions stored possible Reactions} accordingly.
+     * This should be called whenever new Molecules have been {@link LegacyMixture#addMolecule added} to the Mixture, or a Molecule has been removed entirely, but rarely otherwise.
+     * Only Reactions involving Molecules which have been added or removed since the last refresh are regenerated - see {@link LegacyPossibleReactionManager}.
      */
-    @SuppressWarnings("unchecked")
-    private <G extends LegacyFunctionalGroup<G>> List<LegacyReaction> specifySingleGroupGenericReactions(GenericReaction genericReaction, List<GenericReactant<?>> reactants) {
-        List<LegacyReaction> reactions = new ArrayList<>();
-        SingleGroupGenericReaction<G> singleGroupGenericReaction = (SingleGroupGenericReaction<G>) genericReaction; // Unchecked conversion
-        for (GenericReactant<?> reactant : reactants) {
-            try {
-                LegacyReaction reaction = singleGroupGenericReaction.generateReaction((GenericReactant<G>)reactant);
-                if (reaction != null) reactions.add(reaction); // Unchecked conversion
-            } catch(ChemistryException e) {
-                // Don't do anything for chemistry exceptions
-            };
-        };
-        return reactions;
+    private void refreshPossibleReactions() {
+        possibleReactions = possibleReactionManager.refresh();
     };
 
     /**
-     * Given a {@link DoubleGroupGenericReaction Generic Reaction} involving two {@link LegacyFunctionalGroup functional Groups},
-     * generates the specified {@link LegacyReaction Reactions} that apply to this Mixture.
-     * 
-     * <p>For example, if the Generic Reaction supplied is {@link com.petrolpark.destroy.chemistry.legacy.index.genericreaction.AcylChlorideEsterification esterification},
-     * and this this Mixture contains methanoyl chloride, ethanoyl chloride, and ethanol, the returned collection will include two Reactions, one of which makes 
-     * ethyl ethanoate and the other ethyl methanoate.</p>
-     * 
-     * @param <G1> <b>G1</b> The first Group to which this Generic Reaction applies
-     * @param <G2> <b>G2</b> The second Group to which this Generic Reaction applies
-     * @param genericReaction
-     * @param reactantPairs All possible pairs of {@link GenericReactant Reactants} in this Mixture
-     * @return A Collection of specified Reactions
-     * @see LegacyMixture#specifySingleGroupGenericReactions A more in-depth description
+     * The most two concentrations can differ by and be considered {@link LegacyMixture#areVeryClose the same}.
      */
-    @SuppressWarnings("unchecked")
-    private <G1 extends LegacyFunctionalGroup<G1>, G2 extends LegacyFunctionalGroup<G2>> List<LegacyReaction> specifyDoubleGroupGenericReactions(GenericReaction genericReaction, List<Pair<GenericReactant<?>, GenericReactant<?>>> reactantPairs) {
-            DoubleGroupGenericReaction<G1, G2> doubleGroupGenericReaction = (DoubleGroupGenericReaction<G1, G2>) genericReaction; // Unchecked conversion
-            List<LegacyReaction> reactions = new ArrayList<>();
-            for (Pair<GenericReactant<?>, GenericReactant<?>> reactantPair : reactantPairs) {
-                if (reactantPair.getFirst().getMolecule() == reactantPair.getSecond().getMolecule()) continue; // Cannot React Molecules with themselves
-                try {
-                    LegacyReaction reaction = doubleGroupGenericReaction.generateReaction((GenericReactant<G1>)reactantPair.getFirst(), (GenericReactant<G2>)reactantPair.getSecond());
-                    if (reaction != null) reactions.add(reaction); // Unchecked conversions {
-                } catch(ChemistryException e) {
-                    // Do nothing for chemistry exceptions
-                };
-            };
-            return reactions;
-    };
+    private static final float VERY_CLOSE = 1 / 512f / 512f;
 
     public static boolean areVeryClose(float f1, float f2) {
-        return Math.abs(f1 - f2) <= 1 / 512f / 512f;
+        return Math.abs(f1 - f2) <= VERY_CLOSE;
     };
 
     /**
@@ -23,6 +23,7 @@ import com.petrolpark.destroy.chemistry.legacy.LegacyBond.BondType;
 import com.petrolpark.destroy.chemistry.legacy.genericreaction.GenericReaction;
 import com.petrolpark.destroy.chemistry.legacy.LegacyMolecularStructure.Topology.SideChainInformation;
 import com.petrolpark.destroy.chemistry.serializer.Branch;
+import com.petrolpark.destroy.chemistry.serializer.MaximumBranchFinder;
 import com.petrolpark.destroy.chemistry.serializer.Node;
 import com.simibubi.create.foundation.utility.Pair;
 
@@ -704,11 +705,12 @@ public class LegacyMolecularStructure implements Cloneable {
      * Get the <a href = "https://github.com/petrolpark/Destroy/wiki/FROWNS">FROWNS</a> code of this Formula or Group, with the given {@link LegacyAtom Atom} as the first character.
      * The {@link Topology} of this Formula is not included, and in fact this will quietly fail for cyclic {@link LegacySpecies Molecules}.
      * @param atom
+     * @param exhaustiveSearch Whether to use the {@link LegacyMolecularStructure#serializeByExhaustiveSearch old method}
      */
-    private Branch getStrippedBranchStartingWithAtom(LegacyAtom atom) {
+    private Branch getStrippedBranchStartingWithAtom(LegacyAtom atom, boolean exhaustiveSearch) {
         Map<LegacyAtom, List<LegacyBond>> newStructure = stripHydrogens(structure);
         if (topology == Topology.LINEAR) {
-            return getMaximumBranch(atom, newStructure);
+            return exhaustiveSearch ? getMaximumBranchByExhaustiveSearch(atom, newStructure) : getMaximumBranch(atom, newStructure);
         } else {
             throw new FormulaSerializationException("Cannot serialize branch if it is cyclic.");
         }
@@ -725,6 +727,21 @@ public class LegacyMolecularStructure implements Cloneable {
             return optimumFROWNSCode;
         };
 
+        optimumFROWNSCode = serialize(false);
+        return optimumFROWNSCode;
+    };
+
+    /**
+     * Freshly calculate the <a href = "https://github.com/petrolpark/Destroy/wiki/FROWNS">FROWNS</a> code of this Formula, searching every possible
+     * {@link Branch} again at each fork as was done before {@link MaximumBranchFinder} existed. This is very slow for big Molecules and is only kept
+     * so the two methods can be {@link com.petrolpark.destroy.test.FROWNSSerializationTest compared}. Use {@link LegacyMolecularStructure#serialize} instead.
+     */
+    public String serializeByExhaustiveSearch() {
+        return serialize(true);
+    };
+
+    private String serialize(boolean exhaustiveSearch) {
+
         String body = "";
         String prefix = topology.getID();
 
@@ -732,7 +749,7 @@ public class LegacyMolecularStructure implements Cloneable {
 
             Map<LegacyAtom, List<LegacyBond>> newStructure = stripHydrogens(structure);
 
-            body = getMaximumBranchWithHighestMass(newStructure).serialize();
+            body = (exhaustiveSearch ? getMaximumBranchWithHighestMassByExhaustiveSearch(newStructure) : getMaximumBranchWithHighestMass(newStructure)).serialize();
 
         } else {
             updateSideChainStructures();
@@ -743,7 +760,7 @@ public class LegacyMolecularStructure implements Cloneable {
                 if (sideChain.getAllAtoms().size() == 0 || (sideChain.startingAtom.isNeutralHydrogen())) { // If there is nothing or just a hydrogen
                     identity.add(new Branch(new Node(new LegacyAtom(LegacyElement.HYDROGEN))));
                 } else {
-                    identity.add(sideChain.getStrippedBranchStartingWithAtom(sideChain.startingAtom));
+                    identity.add(sideChain.getStrippedBranchStartingWithAtom(sideChain.startingAtom, exhaustiveSearch));
                 };
             };
             
@@ -773,8 +790,7 @@ public class LegacyMolecularStructure implements Cloneable {
             if (body.length() > 0) body = body.substring(0, body.length() - 1); // The -1 removes the final comma
         };
 
-        optimumFROWNSCode = prefix + ":" + body;
-        return optimumFROWNSCode;
+        return prefix + ":" + body;
 
     };
 
@@ -787,6 +803,12 @@ public class LegacyMolecularStructure implements Cloneable {
     };
 
     private static Branch getMaximumBranchWithHighestMass(Map<LegacyAtom, List<LegacyBond>> structure) {
+        Branch branch = new MaximumBranchFinder(structure).getMaximumBranchWithHighestMass();
+        if (branch == null) return getMaximumBranchWithHighestMassByExhaustiveSearch(structure); // Structures which contain rings must still be searched the old way
+        return branch;
+    };
+
+    private static Branch getMaximumBranchWithHighestMassByExhaustiveSearch(Map<LegacyAtom, List<LegacyBond>> structure) {
         List<LegacyAtom> terminalAtoms = new ArrayList<>();
         for (LegacyAtom atom : structure.keySet()) {
             if (structure.get(atom).size() == 1) {
@@ -795,13 +817,14 @@ public class LegacyMolecularStructure implements Cloneable {
         };
 
         Collections.sort(terminalAtoms, (a1, a2) -> {
-            return getMaximumBranch(a2, structure).getMassOfLongestChain().compareTo(getMaximumBranch(a1, structure).getMassOfLongestChain()); // Put in descending order of chain length
+            return getMaximumBranchByExhaustiveSearch(a2, structure).getMassOfLongestChain().compareTo(getMaximumBranchByExhaustiveSearch(a1, structure).getMassOfLongestChain()); // Put in descending order of chain length
         });
         Collections.sort(terminalAtoms, (a1, a2) -> {
             return Branch.getMassForComparisonInSerialization(a1).compareTo(Branch.getMassForComparisonInSerialization(a2));
         });
 
-        return getMaximumBranch(terminalAtoms.get(0), structure);
+        if (terminalAtoms.isEmpty()) throw new FormulaSerializationException("Cannot serialize structure with no terminal Atoms.");
+        return getMaximumBranchByExhaustiveSearch(terminalAtoms.get(0), structure);
     };
 
     /**
@@ -946,8 +969,15 @@ public class LegacyMolecularStructure implements Cloneable {
      * Get the biggest directed {@link Branch} of {@link Node Nodes} generated from the given structure, starting from the given {@link LegacyAtom}.
      * @param startAtom Should not be an {@link LegacyAtom#isAcidicProton() acidic proton}
      * @param structure The {@link LegacyMolecularStructure#structure structure} for which to find the branch
+     * @see MaximumBranchFinder
      */
     private static Branch getMaximumBranch(LegacyAtom startAtom, Map<LegacyAtom, List<LegacyBond>> structure) {
+        Branch branch = new MaximumBranchFinder(structure).getMaximumBranch(startAtom);
+        if (branch == null) return getMaximumBranchByExhaustiveSearch(startAtom, structure); // Structures which contain rings must still be searched the old way
+        return branch;
+    };
+
+    private static Branch getMaximumBranchByExhaustiveSearch(LegacyAtom startAtom, Map<LegacyAtom, List<LegacyBond>> structure) {
 
         Map<LegacyAtom, Node> allNodes = new HashMap<>();
 
@@ -996,7 +1026,7 @@ public class LegacyMolecularStructure implements Cloneable {
 
                     newStructure.remove(currentNode.getAtom());
                     
-                    Branch branch = getMaximumBranch(node.getAtom(), newStructure);
+                    Branch branch = getMaximumBranchByExhaustiveSearch(node.getAtom(), newStructure);
                     connectedBranchesAndTheirBondTypes.put(branch, connectedUnvisitedNodesAndTheirBondTypes.get(node));
                 };
 
@@ -0,0 +1,245 @@
+package com.petrolpark.destroy.chemistry.legacy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import com.petrolpark.destroy.chemistry.api.error.ChemistryException;
+import com.petrolpark.destroy.chemistry.legacy.genericreaction.DoubleGroupGenericReaction;
+import com.petrolpark.destroy.chemistry.legacy.genericreaction.GenericReactant;
+import com.petrolpark.destroy.chemistry.legacy.genericreaction.GenericReaction;
+import com.petrolpark.destroy.chemistry.legacy.genericreaction.GenericReactionCache;
+import com.petrolpark.destroy.chemistry.legacy.genericreaction.SingleGroupGenericReaction;
+
+/**
+ * An incremental store of the {@link LegacyReaction Reactions} {@link GenericReaction Generic Reactions} have generated for the {@link LegacySpecies Molecules} in a {@link LegacyMixture}.
+ * This is the legacy equivalent of an {@link com.petrolpark.destroy.chemistry.api.mixture.IPossibleReactionManager IPossibleReactionManager}.
+ * <p>Rather than regenerating every specific Reaction whenever a Molecule enters or leaves the Mixture, this only generates Reactions involving
+ * Molecules which have been {@link LegacyPossibleReactionManager#componentAdded added}, and retires those involving Molecules which have been
+ * {@link LegacyPossibleReactionManager#componentRemoved removed}. Generic Reactions whose {@link GenericReaction#isPossibleIn possibility} changes
+ * are regenerated or retired in their entirety.</p>
+ */
+public class LegacyPossibleReactionManager {
+
+    /**
+     * The Mixture whose Reactions this is managing.
+     */
+    protected final LegacyMixture mixture;
+
+    /**
+     * Every {@link LegacySpecies} of which this manager has been notified, and which has not since been removed.
+     */
+    protected final Set<LegacySpecies> indexedMolecules;
+
+    /**
+     * Every {@link GenericReaction} which was {@link GenericReaction#isPossibleIn possible} in the Mixture when this manager was last {@link LegacyPossibleReactionManager#refresh refreshed},
+     * mapped to the specific Reactions it has generated so far.
+     */
+    protected final Map<GenericReaction, List<GeneratedReaction>> generatedReactions;
+
+    /**
+     * Molecules which have entered or left the Mixture since this manager was last {@link LegacyPossibleReactionManager#refresh refreshed}.
+     */
+    private final Set<LegacySpecies> addedMolecules, removedMolecules;
+
+    public LegacyPossibleReactionManager(LegacyMixture mixture) {
+        this.mixture = mixture;
+        indexedMolecules = new HashSet<>();
+        generatedReactions = new HashMap<>();
+        addedMolecules = new HashSet<>();
+        removedMolecules = new HashSet<>();
+    };
+
+    /**
+     * Copy the generated {@link LegacyReaction Reactions} of another manager, for a {@link LegacyMixture#copy copy} of its Mixture.
+     * @param mixture The copied Mixture
+     * @param manager The manager of the original Mixture
+     */
+    public LegacyPossibleReactionManager(LegacyMixture mixture, LegacyPossibleReactionManager manager) {
+        this.mixture = mixture;
+        indexedMolecules = new HashSet<>(manager.indexedMolecules);
+        generatedReactions = new HashMap<>();
+        for (Entry<GenericReaction, List<GeneratedReaction>> entry : manager.generatedReactions.entrySet()) {
+            generatedReactions.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        };
+        addedMolecules = new HashSet<>(manager.addedMolecules);
+        removedMolecules = new HashSet<>(manager.removedMolecules);
+    };
+
+    /**
+     * Notify this manager that a brand new {@link LegacySpecies} has entered the Mixture. Nothing is generated until the next {@link LegacyPossibleReactionManager#refresh refresh}.
+     * @param molecule
+     */
+    public void componentAdded(LegacySpecies molecule) {
+        if (!removedMolecules.remove(molecule)) addedMolecules.add(molecule);
+    };
+
+    /**
+     * Notify this manager that a {@link LegacySpecies} has been entirely removed from the Mixture. Nothing is retired until the next {@link LegacyPossibleReactionManager#refresh refresh}.
+     * @param molecule
+     */
+    public void componentRemoved(LegacySpecies molecule) {
+        if (!addedMolecules.remove(molecule)) removedMolecules.add(molecule);
+    };
+
+    /**
+     * Bring the generated {@link LegacyReaction Reactions} up to date with every Molecule {@link LegacyPossibleReactionManager#componentAdded added} or
+     * {@link LegacyPossibleReactionManager#componentRemoved removed} since the last refresh, and then collect every Reaction which is possible in the Mixture.
+     * @return A new List of possible Reactions
+     */
+    public List<LegacyReaction> refresh() {
+
+        // Retire Reactions involving Molecules which have gone
+        for (LegacySpecies molecule : removedMolecules) {
+            indexedMolecules.remove(molecule);
+            for (List<GeneratedReaction> reactions : generatedReactions.values()) {
+                reactions.removeIf(reaction -> reaction.involves(molecule));
+            };
+        };
+
+        // Determine which Generic Reactions are now possible
+        Set<GenericReaction> nowPossibleGenericReactions = new HashSet<>();
+        for (Entry<LegacyFunctionalGroupType<?>, List<GenericReactant<?>>> entry : mixture.groupIDsAndMolecules.entrySet()) {
+            LegacyFunctionalGroupType<?> groupType = entry.getKey();
+            for (GenericReaction genericReaction : LegacyFunctionalGroup.getReactionsOfGroupByID(groupType)) {
+                if (genericReaction instanceof DoubleGroupGenericReaction<?, ?> dggr) {
+                    if (groupType != dggr.getFirstGroupType()) continue; // Only consider Double Group Generic Reactions when we're dealing with the first Group type
+                    if (!mixture.groupIDsAndMolecules.containsKey(dggr.getSecondGroupType())) continue; // We can't do this Generic Reaction if we only have one Group type
+                };
+                if (genericReaction.isPossibleIn(mixture)) nowPossibleGenericReactions.add(genericReaction);
+            };
+        };
+
+        // Retire Generic Reactions which are no longer possible
+        generatedReactions.keySet().retainAll(nowPossibleGenericReactions);
+
+        // Generate new specific Reactions
+        for (GenericReaction genericReaction : nowPossibleGenericReactions) {
+            List<GeneratedReaction> reactions = generatedReactions.get(genericReaction);
+            if (reactions == null) { // If this Generic Reaction has only just become possible, generate it for every Molecule
+                reactions = new ArrayList<>();
+                generatedReactions.put(genericReaction, reactions);
+                generate(genericReaction, null, reactions);
+            } else if (!addedMolecules.isEmpty()) { // Otherwise only generate it for the new Molecules
+                generate(genericReaction, addedMolecules, reactions);
+            };
+        };
+
+        indexedMolecules.addAll(addedMolecules);
+        addedMolecules.clear();
+        removedMolecules.clear();
+
+        // Collect all Reactions
+        Set<LegacyReaction> candidateReactions = new HashSet<>();
+        for (List<GeneratedReaction> reactions : generatedReactions.values()) {
+            for (GeneratedReaction reaction : reactions) candidateReactions.add(reaction.reaction());
+        };
+        for (LegacySpecies possibleReactant : mixture.contents.keySet()) {
+            candidateReactions.addAll(possibleReactant.getReactantReactions());
+        };
+
+        List<LegacyReaction> possibleReactions = new ArrayList<>();
+        checkEachReaction: for (LegacyReaction reaction : candidateReactions) {
+            /*
+             * This checks if all necessary Reactants were present before proceeding, however this leads to some infinite loops
+             * where one half of a reversible Reaction would happen one tick, then the other one the next, etc.
+             */
+            for (LegacySpecies necessaryReactantOrCatalyst : reaction.getOrders().keySet()) {
+                if (mixture.getConcentrationOf(necessaryReactantOrCatalyst) == 0) continue checkEachReaction;
+            };
+            possibleReactions.add(reaction);
+        };
+        return possibleReactions;
+    };
+
+    /**
+     * Generate specific {@link LegacyReaction Reactions} for the given {@link GenericReaction}.
+     * @param genericReaction
+     * @param newMolecules If not {@code null}, only Reactions involving at least one of these Molecules will be generated
+     * @param reactions The List to which to add the generated Reactions
+     */
+    private void generate(GenericReaction genericReaction, @Nullable Set<LegacySpecies> newMolecules, List<GeneratedReaction> reactions) {
+        if (genericReaction.involvesSingleGroup()) {
+            SingleGroupGenericReaction<?> sggr = (SingleGroupGenericReaction<?>)genericReaction;
+            for (GenericReactant<?> reactant : mixture.groupIDsAndMolecules.getOrDefault(sggr.getGroupType(), List.of())) {
+                if (newMolecules != null && !newMolecules.contains(reactant.getMolecule())) continue;
+                LegacyReaction reaction = specifySingleGroupGenericReaction(sggr, reactant);
+                if (reaction != null) reactions.add(new GeneratedReaction(reaction, reactant.getMolecule(), null));
+            };
+        } else {
+            DoubleGroupGenericReaction<?, ?> dggr = (DoubleGroupGenericReaction<?, ?>)genericReaction;
+            List<GenericReactant<?>> secondReactants = mixture.groupIDsAndMolecules.getOrDefault(dggr.getSecondGroupType(), List.of());
+            for (GenericReactant<?> firstReactant : mixture.groupIDsAndMolecules.getOrDefault(dggr.getFirstGroupType(), List.of())) {
+                boolean firstIsNew = newMolecules == null || newMolecules.contains(firstReactant.getMolecule());
+                for (GenericReactant<?> secondReactant : secondReactants) {
+                    if (!firstIsNew && !newMolecules.contains(secondReactant.getMolecule())) continue; // This pair has already been generated
+                    if (firstReactant.getMolecule() == secondReactant.getMolecule()) continue; // Cannot React Molecules with themselves
+                    LegacyReaction reaction = specifyDoubleGroupGenericReaction(dggr, firstReactant, secondReactant);
+                    if (reaction != null) reactions.add(new GeneratedReaction(reaction, firstReactant.getMolecule(), secondReactant.getMolecule()));
+                };
+            };
+        };
+    };
+
+    /**
+     * Given a {@link SingleGroupGenericReaction Generic Reaction} involving only one {@link LegacyFunctionalGroup functional Group},
+     * generates (or {@link GenericReactionCache retrieves}) the specified {@link LegacyReaction Reaction} for the given Reactant.
+     *
+     * <p>For example, if the Generic Reaction supplied is the {@link com.petrolpark.destroy.chemistry.legacy.index.genericreaction.SaturatedCarbonHydrolysis hydration of an alkene},
+     * and the <b>reactant</b> is {@code destroy:ethene}, the returned Reaction will have {@code destroy:ethene} and {@code destroy:water} as reactants,
+     * {@code destroy:ethanol} as a product, and all the appropriate rate constants and catalysts as defined in the generator.</p>
+     *
+     * @param <G> <b>G</b> The Group to which this Generic Reaction applies
+     * @return {@code null} if the Reaction is impossible
+     */
+    @SuppressWarnings("unchecked")
+    private static <G extends LegacyFunctionalGroup<G>> LegacyReaction specifySingleGroupGenericReaction(SingleGroupGenericReaction<?> genericReaction, GenericReactant<?> reactant) {
+        return GenericReactionCache.getOrGenerate(genericReaction, reactant, null, () -> {
+            try {
+                return ((SingleGroupGenericReaction<G>)genericReaction).generateReaction((GenericReactant<G>)reactant); // Unchecked conversions
+            } catch(ChemistryException e) {
+                return null; // Don't do anything for chemistry exceptions
+            };
+        });
+    };
+
+    /**
+     * Given a {@link DoubleGroupGenericReaction Generic Reaction} involving two {@link LegacyFunctionalGroup functional Groups},
+     * generates (or {@link GenericReactionCache retrieves}) the specified {@link LegacyReaction Reaction} for the given pair of Reactants.
+     *
+     * <p>For example, if the Generic Reaction supplied is {@link com.petrolpark.destroy.chemistry.legacy.index.genericreaction.AcylChlorideEsterification esterification},
+     * and the Reactants are ethanoyl chloride and ethanol, the returned Reaction makes ethyl ethanoate.</p>
+     *
+     * @param <G1> <b>G1</b> The first Group to which this Generic Reaction applies
+     * @param <G2> <b>G2</b> The second Group to which this Generic Reaction applies
+     * @return {@code null} if the Reaction is impossible
+     * @see LegacyPossibleReactionManager#specifySingleGroupGenericReaction A more in-depth description
+     */
+    @SuppressWarnings("unchecked")
+    private static <G1 extends LegacyFunctionalGroup<G1>, G2 extends LegacyFunctionalGroup<G2>> LegacyReaction specifyDoubleGroupGenericReaction(DoubleGroupGenericReaction<?, ?> genericReaction, GenericReactant<?> firstReactant, GenericReactant<?> secondReactant) {
+        return GenericReactionCache.getOrGenerate(genericReaction, firstReactant, secondReactant, () -> {
+            try {
+                return ((DoubleGroupGenericReaction<G1, G2>)genericReaction).generateReaction((GenericReactant<G1>)firstReactant, (GenericReactant<G2>)secondReactant); // Unchecked conversions
+            } catch(ChemistryException e) {
+                return null; // Do nothing for chemistry exceptions
+            };
+        });
+    };
+
+    /**
+     * A {@link LegacyReaction} generated by a {@link GenericReaction}, along with the {@link LegacySpecies Molecules} for which it was generated.
+     * @param secondMolecule {@code null} for Reactions generated by {@link SingleGroupGenericReaction Single Group Generic Reactions}
+     */
+    protected static record GeneratedReaction(LegacyReaction reaction, LegacySpecies firstMolecule, @Nullable LegacySpecies secondMolecule) {
+
+        public boolean involves(LegacySpecies molecule) {
+            return firstMolecule == molecule || secondMolecule == molecule;
+        };
+    };
+};
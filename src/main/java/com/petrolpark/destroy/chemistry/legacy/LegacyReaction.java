@@ -40,6 +40,12 @@ public class LegacyReaction {
 
     private Map<LegacySpecies, Integer> reactants, products, orders;
 
+    /**
+     * The {@link LegacyReaction#reactants reactants}, {@link LegacyReaction#products products} and {@link LegacyReaction#orders orders} of this Reaction,
+     * copied into arrays when the Reaction is {@link ReactionBuilder#build built} so {@link LegacyMixture Mixtures} can go through them every tick without allocating.
+     */
+    private Coefficients reactantCoefficients, productCoefficients, orderCoefficients;
+
     /**
      * All {@link IItemReactant Item Reactants} (and catalysts) this Reaction.
      */
@@ -329,6 +335,49 @@ public class LegacyReaction {
         return this.orders;
     };
 
+    /**
+     * The {@link LegacyReaction#getReactants reactants} and their {@link LegacyReaction#getReactantMolarRatio molar ratios}, in the same order as {@link LegacyReaction#getReactants}.
+     */
+    Coefficients getReactantCoefficients() {
+        return reactantCoefficients;
+    };
+
+    /**
+     * The {@link LegacyReaction#getProducts products} and their {@link LegacyReaction#getProductMolarRatio molar ratios}, in the same order as {@link LegacyReaction#getProducts}.
+     */
+    Coefficients getProductCoefficients() {
+        return productCoefficients;
+    };
+
+    /**
+     * The reactants and catalysts and their {@link LegacyReaction#getOrders orders}.
+     */
+    Coefficients getOrderCoefficients() {
+        return orderCoefficients;
+    };
+
+    /**
+     * {@link LegacySpecies Molecules} and a whole number for each (molar ratio or order), as parallel arrays.
+     */
+    static record Coefficients(LegacySpecies[] molecules, int[] values) {
+
+        private static Coefficients of(Map<LegacySpecies, Integer> map) {
+            LegacySpecies[] molecules = new LegacySpecies[map.size()];
+            int[] values = new int[map.size()];
+            int i = 0;
+            for (Entry<LegacySpecies, Integer> entry : map.entrySet()) {
+                molecules[i] = entry.getKey();
+                values[i] = entry.getValue();
+                i++;
+            };
+            return new Coefficients(molecules, values);
+        };
+
+        public int size() {
+            return molecules.length;
+        };
+    };
+
     /**
      * Get the {@link LegacyReaction#standardHalfCellPotential standard half cell potential} of this reduction half-Reaction.
      * @return {@code 0f} if this is not a reduction half-Reaction
@@ -821,6 +870,10 @@ public class LegacyReaction {
                 Destroy.LOGGER.warn("Reaction '"+reactionString()+"' does not do anything when its required Items are consumed.");
             };
 
+            reaction.reactantCoefficients = Coefficients.of(reaction.reactants);
+            reaction.productCoefficients = Coefficients.of(reaction.products);
+            reaction.orderCoefficients = Coefficients.of(reaction.orders);
+
             // Overhead for built-in Reactions
 
             if (!generated) { // Reactions generated by Generic Reaction generators and oxidation half-reactions don't get added to the list of known reactions
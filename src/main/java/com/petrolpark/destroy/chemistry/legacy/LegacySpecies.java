@@ -3,6 +3,7 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -21,6 +22,7 @@ import com.petrolpark.destroy.chemistry.legacy.index.DestroyMolecules;
 import com.petrolpark.destroy.chemistry.naming.INameableProduct;
 import com.petrolpark.destroy.chemistry.serializer.Branch;
 import com.petrolpark.destroy.client.gui.MoleculeRenderer;
+import com.petrolpark.destroy.config.DestroyChemistryConfigs;
 import com.petrolpark.destroy.util.DestroyLang;
 import com.simibubi.create.foundation.utility.Pair;
 
@@ -53,6 +55,21 @@ public class LegacySpecies implements INameableProduct {
      * All non-novel Molecules known to Destroy, indexed by their {@link LegacySpecies#getFullID ID}.
      */
     public static final Map<String, LegacySpecies> MOLECULES = new HashMap<>(); // Map of Molecules stored by their IDs
+    /**
+     * All non-novel Molecules known to Destroy, indexed by their <a href="https://github.com/petrolpark/Destroy/wiki/FROWNS">FROWNS</a> code, so {@link LegacySpecies#getEquivalent equivalents}
+     * of novel Molecules can be found without checking every known Molecule. This is {@code null} if it needs to be {@link LegacySpecies#getMoleculesByFROWNSCode rebuilt}.
+     */
+    private static volatile Map<String, LegacySpecies> MOLECULES_BY_FROWNS_CODE = null;
+    /**
+     * Novel Molecules which have been {@link LegacySpecies#getMolecule read} from their FROWNS codes, so each is only built once rather than every time a Mixture containing it is read.
+     * The least recently used are forgotten once the {@link DestroyChemistryConfigs#novelMoleculeCacheSize configured size} is exceeded. Access to this must be synchronized on it.
+     */
+    private static final Map<String, LegacySpecies> NOVEL_MOLECULES = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, LegacySpecies> eldest) {
+            return size() > DestroyChemistryConfigs.novelMoleculeCacheSize();
+        };
+    };
 
     /**
      * The name space of the mod by which this Molecule was defined.
@@ -162,7 +179,7 @@ public class LegacySpecies implements INameableProduct {
      * </ul><p>This method does not {@link LegacySpecies#getEquivalent check for pre-existing defined Molecules} of the same structure. To generate novel Molecules from a
      * FROWNS code {@code x:y} and also check if they already exist, use a {@link MoleculeBuilder Molecule Builder} with {@code .structure(Formula.deserialize(x:y))}.</p>
      * @param id ID or full FROWNS code.
-     * @return A new Molecule instance for novel Molecules; the existing Molecule object for known ones
+     * @return The existing Molecule object for known ones. For novel Molecules, the same Molecule object as the last time this FROWNS code was read, unless it has been forgotten
      */
     @Nullable
     public static LegacySpecies getMolecule(String id) {
@@ -172,9 +189,17 @@ public class LegacySpecies implements INameableProduct {
         LegacySpecies molecule = MOLECULES.get(id);
         if (molecule != null) return molecule;
         if (idComponents.length == 3) {
-            return new MoleculeBuilder("novel")
-                .structure(LegacyMolecularStructure.deserialize(id))
-                .build();
+            if (DestroyChemistryConfigs.novelMoleculeCacheSize() <= 0) return buildNovelMolecule(id);
+            synchronized (NOVEL_MOLECULES) {
+                molecule = NOVEL_MOLECULES.get(id);
+            };
+            if (molecule != null) return molecule;
+            molecule = buildNovelMolecule(id); // Build outside the lock, as this is the slow bit
+            synchronized (NOVEL_MOLECULES) {
+                LegacySpecies existingMolecule = NOVEL_MOLECULES.putIfAbsent(id, molecule); // If another thread got there first, use theirs so there is only one object for this Molecule
+                if (existingMolecule != null) molecule = existingMolecule;
+            };
+            return molecule;
         } else if (idComponents.length == 2) {
             return MOLECULES.get(id);
         };
@@ -182,6 +207,12 @@ public class LegacySpecies implements INameableProduct {
         return null;
     };
 
+    private static LegacySpecies buildNovelMolecule(String FROWNSCode) {
+        return new MoleculeBuilder("novel")
+            .structure(LegacyMolecularStructure.deserialize(FROWNSCode))
+            .build();
+    };
+
     /**
      * Get the String used for storing this Molecule in NBT.<ul>
      * <li>For known Molecules, this will be of the format {@code <namespace>:<id>}.</li>
@@ -213,14 +244,42 @@ public class LegacySpecies implements INameableProduct {
      * @return A pre-existing Molecule object if there is a match, or this Molecule otherwise
      */
     public LegacySpecies getEquivalent() {
-        for (LegacySpecies molecule : MOLECULES.values()) {
-            if (Math.abs(getMass() - molecule.getMass()) < 0.001) { // Initially just check the masses match
-                if (structure.serialize().equals(molecule.structure.serialize())) { // Check the structures match
-                    return molecule;
+        LegacySpecies equivalent = getMoleculesByFROWNSCode().get(structure.serialize());
+        return equivalent == null ? this : equivalent;
+    };
+
+    /**
+     * Get all {@link LegacySpecies#MOLECULES known Molecules}, indexed by their FROWNS code, building the index if any Molecules have been registered since it was last built.
+     */
+    private static Map<String, LegacySpecies> getMoleculesByFROWNSCode() {
+        Map<String, LegacySpecies> index = MOLECULES_BY_FROWNS_CODE;
+        if (index != null) return index;
+        synchronized (MOLECULES) {
+            if (MOLECULES_BY_FROWNS_CODE == null) {
+                Map<String, LegacySpecies> newIndex = new HashMap<>(MOLECULES.size());
+                for (LegacySpecies molecule : MOLECULES.values()) {
+                    try {
+                        newIndex.putIfAbsent(molecule.structure.serialize(), molecule);
+                    } catch (ChemistryException e) {
+                        Destroy.LOGGER.warn("Could not serialize structure of Molecule '"+molecule.getFullID()+"', so novel Molecules will never be matched to it.", e);
+                    };
                 };
+                MOLECULES_BY_FROWNS_CODE = newIndex;
             };
+            return MOLECULES_BY_FROWNS_CODE;
+        };
+    };
+
+    /**
+     * Mark the index of {@link LegacySpecies#MOLECULES known Molecules} by FROWNS code as out of date, so it gets rebuilt next time it is needed.
+     * This also forgets all {@link LegacySpecies#NOVEL_MOLECULES read novel Molecules}, as some of them may now be equivalent to known Molecules.
+     * This is done automatically when Molecules are {@link MoleculeBuilder#build built}, and on datapack reload.
+     */
+    public static void invalidateFROWNSCodeIndex() {
+        MOLECULES_BY_FROWNS_CODE = null;
+        synchronized (NOVEL_MOLECULES) {
+            NOVEL_MOLECULES.clear();
         };
-        return this;
     };
 
     public String getFROWNSCode() {
@@ -781,6 +840,7 @@ public class LegacySpecies implements INameableProduct {
                     throw e("Molecule's ID has not been declared.");
                 } else {
                     MOLECULES.put(molecule.nameSpace+":"+molecule.id, molecule);
+                    invalidateFROWNSCodeIndex();
                 };
             };
 
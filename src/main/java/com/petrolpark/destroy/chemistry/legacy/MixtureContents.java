@@ -0,0 +1,394 @@
+package com.petrolpark.destroy.chemistry.legacy;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * The {@link LegacySpecies Molecules} in a {@link ReadOnlyMixture}, along with their concentrations and states.
+ * <p>Each Molecule in the Mixture is given a slot, and the slots are kept dense (removing a Molecule moves the Molecule in the last slot into its place).
+ * Concentrations, {@link ReadOnlyMixture#states proportions which are gaseous} and {@link LegacySpecies#getMolarHeatCapacity molar heat capacities}
+ * are kept in parallel arrays indexed by slot, so reacting and heating Mixtures doesn't have to box floats or look up Molecules in Maps.
+ * A Molecule's slot only stays the same until a Molecule is removed.</p>
+ * <p>For everything else, the {@link MixtureContents#concentrations concentrations} and {@link MixtureContents#states states} can be accessed as {@link Map Maps}.
+ * These are views, so changes to them are written through to the arrays. Every Molecule which has a concentration also has a state, and setting the state
+ * of a Molecule which is not in the Mixture does nothing.</p>
+ */
+public class MixtureContents {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final Map<LegacySpecies, Integer> slots;
+    private LegacySpecies[] molecules;
+    private float[] concentrations;
+    private float[] states;
+    private float[] molarHeatCapacities;
+    private int size;
+
+    private final Map<LegacySpecies, Float> concentrationsView;
+    private final Map<LegacySpecies, Float> statesView;
+
+    public MixtureContents() {
+        slots = new IdentityHashMap<>();
+        molecules = new LegacySpecies[INITIAL_CAPACITY];
+        concentrations = new float[INITIAL_CAPACITY];
+        states = new float[INITIAL_CAPACITY];
+        molarHeatCapacities = new float[INITIAL_CAPACITY];
+        size = 0;
+        concentrationsView = new View(true);
+        statesView = new View(false);
+    };
+
+    /**
+     * Get an independent copy of these contents, with every {@link LegacySpecies} in the same slot.
+     */
+    public MixtureContents copy() {
+        MixtureContents copy = new MixtureContents();
+        copy.slots.putAll(slots);
+        copy.molecules = Arrays.copyOf(molecules, molecules.length);
+        copy.concentrations = Arrays.copyOf(concentrations, concentrations.length);
+        copy.states = Arrays.copyOf(states, states.length);
+        copy.molarHeatCapacities = Arrays.copyOf(molarHeatCapacities, molarHeatCapacities.length);
+        copy.size = size;
+        return copy;
+    };
+
+    /**
+     * Replace these contents with a copy of other contents, with every {@link LegacySpecies} in the same slot.
+     * @param other
+     */
+    public void setTo(MixtureContents other) {
+        slots.clear();
+        slots.putAll(other.slots);
+        molecules = Arrays.copyOf(other.molecules, other.molecules.length);
+        concentrations = Arrays.copyOf(other.concentrations, other.concentrations.length);
+        states = Arrays.copyOf(other.states, other.states.length);
+        molarHeatCapacities = Arrays.copyOf(other.molarHeatCapacities, other.molarHeatCapacities.length);
+        size = other.size;
+    };
+
+    /**
+     * The number of {@link LegacySpecies Molecules} (and so the number of slots in use).
+     */
+    public int size() {
+        return size;
+    };
+
+    public boolean isEmpty() {
+        return size == 0;
+    };
+
+    /**
+     * Get the slot of the given {@link LegacySpecies}.
+     * @param molecule
+     * @return {@code -1} if the Molecule is not in the Mixture
+     */
+    public int getSlot(LegacySpecies molecule) {
+        Integer slot = slots.get(molecule);
+        return slot == null ? -1 : slot;
+    };
+
+    public boolean contains(LegacySpecies molecule) {
+        return slots.containsKey(molecule);
+    };
+
+    /**
+     * Get the slot of the given {@link LegacySpecies}, giving it a new one (with no concentration and entirely liquid) if it is not already in the Mixture.
+     * @param molecule
+     */
+    public int getOrAddSlot(LegacySpecies molecule) {
+        Integer existingSlot = slots.get(molecule);
+        if (existingSlot != null) return existingSlot;
+        if (size == molecules.length) {
+            int newCapacity = size * 2;
+            molecules = Arrays.copyOf(molecules, newCapacity);
+            concentrations = Arrays.copyOf(concentrations, newCapacity);
+            states = Arrays.copyOf(states, newCapacity);
+            molarHeatCapacities = Arrays.copyOf(molarHeatCapacities, newCapacity);
+        };
+        int slot = size;
+        molecules[slot] = molecule;
+        concentrations[slot] = 0f;
+        states[slot] = 0f;
+        molarHeatCapacities[slot] = molecule.getMolarHeatCapacity();
+        slots.put(molecule, slot);
+        size++;
+        return slot;
+    };
+
+    /**
+     * Remove a {@link LegacySpecies} from the Mixture entirely. The Molecule in the last slot is moved into the freed slot.
+     * @param molecule
+     * @return Whether the Molecule was in the Mixture
+     */
+    public boolean remove(LegacySpecies molecule) {
+        Integer slot = slots.remove(molecule);
+        if (slot == null) return false;
+        removeSlot(slot);
+        return true;
+    };
+
+    private void removeSlot(int slot) {
+        int last = size - 1;
+        if (slot != last) {
+            LegacySpecies movedMolecule = molecules[last];
+            molecules[slot] = movedMolecule;
+            concentrations[slot] = concentrations[last];
+            states[slot] = states[last];
+            molarHeatCapacities[slot] = molarHeatCapacities[last];
+            slots.put(movedMolecule, slot);
+        };
+        molecules[last] = null;
+        size--;
+    };
+
+    public void clear() {
+        Arrays.fill(molecules, 0, size, null);
+        slots.clear();
+        size = 0;
+    };
+
+    public LegacySpecies getMolecule(int slot) {
+        return molecules[slot];
+    };
+
+    /**
+     * @param molecule
+     * @return {@code 0} if the Molecule is not in the Mixture
+     */
+    public float getConcentration(LegacySpecies molecule) {
+        Integer slot = slots.get(molecule);
+        return slot == null ? 0f : concentrations[slot];
+    };
+
+    public float getConcentration(int slot) {
+        return concentrations[slot];
+    };
+
+    public void setConcentration(int slot, float concentration) {
+        concentrations[slot] = concentration;
+    };
+
+    /**
+     * The proportion of the given {@link LegacySpecies} which is gaseous.
+     * @param molecule
+     * @return {@code 0} if the Molecule is not in the Mixture
+     */
+    public float getState(LegacySpecies molecule) {
+        Integer slot = slots.get(molecule);
+        return slot == null ? 0f : states[slot];
+    };
+
+    public float getState(int slot) {
+        return states[slot];
+    };
+
+    public void setState(int slot, float state) {
+        states[slot] = state;
+    };
+
+    public float getMolarHeatCapacity(int slot) {
+        return molarHeatCapacities[slot];
+    };
+
+    /**
+     * Copy the concentration of every slot into an array.
+     * @param array The array to reuse, if it is big enough
+     * @return The given array if it was big enough, or a new one
+     */
+    public float[] copyConcentrations(float[] array) {
+        if (array == null || array.length < size) array = new float[Math.max(size, INITIAL_CAPACITY)];
+        System.arraycopy(concentrations, 0, array, 0, size);
+        return array;
+    };
+
+    /**
+     * Get the heat capacity (in joules per bucket-kelvin) of all these {@link LegacySpecies Molecules}.
+     */
+    public float getVolumetricHeatCapacity() {
+        float totalHeatCapacity = 0f;
+        for (int slot = 0; slot < size; slot++) {
+            totalHeatCapacity += molarHeatCapacities[slot] * concentrations[slot];
+        };
+        return totalHeatCapacity;
+    };
+
+    /**
+     * Get the combined concentration of every {@link LegacySpecies}.
+     * @return in moles per bucket
+     */
+    public float getTotalConcentration() {
+        float total = 0f;
+        for (int slot = 0; slot < size; slot++) {
+            total += concentrations[slot];
+        };
+        return total;
+    };
+
+    /**
+     * The {@link LegacySpecies Molecules}, mapped to their concentrations (in moles per Bucket).
+     * Adding a Molecule to this Map adds it to the Mixture, and removing it removes it from the Mixture entirely.
+     */
+    public Map<LegacySpecies, Float> concentrations() {
+        return concentrationsView;
+    };
+
+    /**
+     * The {@link LegacySpecies Molecules}, mapped to the proportion of them which is gaseous.
+     * Removing a Molecule from this Map removes it from the Mixture entirely.
+     */
+    public Map<LegacySpecies, Float> states() {
+        return statesView;
+    };
+
+    private class View extends AbstractMap<LegacySpecies, Float> {
+
+        private final boolean isConcentrations;
+        private final Set<Entry<LegacySpecies, Float>> entrySet;
+
+        private View(boolean isConcentrations) {
+            this.isConcentrations = isConcentrations;
+            entrySet = new EntrySet();
+        };
+
+        private float[] getArray() {
+            return isConcentrations ? concentrations : states;
+        };
+
+        @Override
+        public int size() {
+            return size;
+        };
+
+        @Override
+        public boolean containsKey(Object key) {
+            return slots.containsKey(key);
+        };
+
+        @Override
+        public Float get(Object key) {
+            Integer slot = slots.get(key);
+            return slot == null ? null : getArray()[slot];
+        };
+
+        @Override
+        public Float put(LegacySpecies molecule, Float value) {
+            Integer existingSlot = slots.get(molecule);
+            if (existingSlot == null && !isConcentrations) return null; // Molecules not in the Mixture have no state
+            int slot = existingSlot == null ? getOrAddSlot(molecule) : existingSlot;
+            float[] values = getArray();
+            Float oldValue = existingSlot == null ? null : values[slot];
+            values[slot] = value;
+            return oldValue;
+        };
+
+        @Override
+        public Float remove(Object key) {
+            Integer slot = slots.get(key);
+            if (slot == null) return null;
+            Float oldValue = getArray()[slot];
+            MixtureContents.this.remove((LegacySpecies)key);
+            return oldValue;
+        };
+
+        @Override
+        public void clear() {
+            MixtureContents.this.clear();
+        };
+
+        @Override
+        public Set<Entry<LegacySpecies, Float>> entrySet() {
+            return entrySet;
+        };
+
+        private class EntrySet extends AbstractSet<Entry<LegacySpecies, Float>> {
+
+            @Override
+            public int size() {
+                return size;
+            };
+
+            @Override
+            public Iterator<Entry<LegacySpecies, Float>> iterator() {
+                return new Iterator<>() {
+
+                    private int nextSlot = 0;
+                    private int lastSlot = -1;
+
+                    @Override
+                    public boolean hasNext() {
+                        return nextSlot < size;
+                    };
+
+                    @Override
+                    public Entry<LegacySpecies, Float> next() {
+                        if (nextSlot >= size) throw new NoSuchElementException();
+                        lastSlot = nextSlot++;
+                        return new SlotEntry(lastSlot);
+                    };
+
+                    @Override
+                    public void remove() {
+                        if (lastSlot < 0) throw new IllegalStateException();
+                        slots.remove(molecules[lastSlot]);
+                        removeSlot(lastSlot);
+                        nextSlot = lastSlot; // The last Molecule has been moved into this slot, so look at it next
+                        lastSlot = -1;
+                    };
+                };
+            };
+        };
+
+        private class SlotEntry implements Entry<LegacySpecies, Float> {
+
+            private final LegacySpecies molecule;
+            private int slot;
+
+            private SlotEntry(int slot) {
+                this.slot = slot;
+                molecule = molecules[slot];
+            };
+
+            private int getSlot() {
+                if (slot >= size || molecules[slot] != molecule) slot = MixtureContents.this.getSlot(molecule); // The Molecule has moved slot since this Entry was made
+                if (slot == -1) throw new IllegalStateException("Molecule '" + molecule.getFullID() + "' has been removed from the Mixture");
+                return slot;
+            };
+
+            @Override
+            public LegacySpecies getKey() {
+                return molecule;
+            };
+
+            @Override
+            public Float getValue() {
+                return getArray()[getSlot()];
+            };
+
+            @Override
+            public Float setValue(Float value) {
+                float[] values = getArray();
+                int slot = getSlot();
+                Float oldValue = values[slot];
+                values[slot] = value;
+                return oldValue;
+            };
+
+            @Override
+            public boolean equals(Object obj) {
+                if (!(obj instanceof Entry<?, ?> entry)) return false;
+                return getKey() == entry.getKey() && getValue().equals(entry.getValue());
+            };
+
+            @Override
+            public int hashCode() {
+                return getKey().hashCode() ^ getValue().hashCode();
+            };
+        };
+    };
+};
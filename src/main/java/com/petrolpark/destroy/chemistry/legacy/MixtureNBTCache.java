@@ -0,0 +1,112 @@
+package com.petrolpark.destroy.chemistry.legacy;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+import com.petrolpark.destroy.config.DestroyChemistryConfigs;
+
+import net.minecraft.nbt.CompoundTag;
+
+/**
+ * A store of Mixtures which have already been {@link ReadOnlyMixture#readNBT read} from NBT, shared between everything which reads Mixtures.
+ * The same Mixture tags are read over and over (for example to get the color and name of a Mixture Fluid every frame), and reading one means looking up every
+ * {@link LegacySpecies} by its ID and working out the name and color of the Mixture, and for {@link LegacyMixture Mixtures} which can react, all the
+ * {@link LegacyReaction Reactions} possible in it.
+ * <p>Mixtures are keyed by their type and the contents of the tag (so copies of a tag share a Mixture). Cached Mixtures are never given out, only copied, so
+ * nothing can change them. The least recently used Mixtures are forgotten once the {@link DestroyChemistryConfigs#mixtureNBTCacheSize configured size} is exceeded.</p>
+ * <p>This is safe to access from multiple threads.</p>
+ */
+public class MixtureNBTCache {
+
+    private static final Map<Key, ReadOnlyMixture> MIXTURES = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, ReadOnlyMixture> eldest) {
+            if (size() > DestroyChemistryConfigs.mixtureNBTCacheSize()) {
+                EVICTIONS.incrementAndGet();
+                return true;
+            };
+            return false;
+        };
+    };
+
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+    private static final AtomicLong EVICTIONS = new AtomicLong();
+
+    public static boolean isEnabled() {
+        return DestroyChemistryConfigs.mixtureNBTCacheSize() > 0;
+    };
+
+    /**
+     * Get the Mixture of the given type previously read from a tag with the same contents as the given one.
+     * @param type The class of the Mixture
+     * @param tag
+     * @return {@code null} if no such Mixture has been read (or it has been forgotten). This must not be modified, only copied.
+     */
+    @Nullable
+    static ReadOnlyMixture get(Class<?> type, CompoundTag tag) {
+        ReadOnlyMixture mixture;
+        synchronized (MIXTURES) {
+            mixture = MIXTURES.get(new Key(type, tag));
+        };
+        if (mixture == null) {
+            MISSES.incrementAndGet();
+        } else {
+            HITS.incrementAndGet();
+        };
+        return mixture;
+    };
+
+    /**
+     * Remember a Mixture read from the given tag.
+     * @param tag This is copied, so it does not matter if it is later modified
+     * @param mixture A Mixture which nothing else has access to
+     */
+    static void put(CompoundTag tag, ReadOnlyMixture mixture) {
+        Key key = new Key(mixture.getClass(), tag.copy());
+        synchronized (MIXTURES) {
+            MIXTURES.putIfAbsent(key, mixture);
+        };
+    };
+
+    /**
+     * Forget all read Mixtures.
+     */
+    public static void clear() {
+        synchronized (MIXTURES) {
+            MIXTURES.clear();
+        };
+    };
+
+    public static int getSize() {
+        synchronized (MIXTURES) {
+            return MIXTURES.size();
+        };
+    };
+
+    /**
+     * The number of times a Mixture was read which had already been read.
+     */
+    public static long getHits() {
+        return HITS.get();
+    };
+
+    /**
+     * The number of times a Mixture was read which had to be parsed.
+     */
+    public static long getMisses() {
+        return MISSES.get();
+    };
+
+    /**
+     * The number of read Mixtures which have been forgotten to make room for new ones.
+     */
+    public static long getEvictions() {
+        return EVICTIONS.get();
+    };
+
+    private static record Key(Class<?> type, CompoundTag tag) {};
+};
@@ -0,0 +1,276 @@
+package com.petrolpark.destroy.chemistry.legacy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import com.petrolpark.destroy.Destroy;
+
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.StringTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.util.Mth;
+
+/**
+ * A compact binary form of {@link ReadOnlyMixture#writeNBT Mixture tags}, used when sending Block Entities full of Mixtures to clients.
+ * In NBT, every {@link LegacySpecies} in every Mixture is written as its full ID or FROWNS code along with the names of all its fields.
+ * Here, known Species are written as their index in the (sorted) list of {@link LegacySpecies#MOLECULES known Molecules}, novel Species as their
+ * index in a dictionary written once per Block Entity, and concentrations are rounded to 24-bit floats.
+ * <p>{@link MixtureWireFormat#compress Compressing} a Block Entity's client tag replaces each {@code Mixture} tag with a {@code MixtureData} byte array,
+ * and {@link MixtureWireFormat#expand expanding} it on the client turns these back into ordinary {@code Mixture} tags, so nothing else needs to know.
+ * Saves always use the ordinary NBT form.</p>
+ */
+public class MixtureWireFormat {
+
+    private static final String WIRE_KEY = "MixtureWire";
+    private static final String MIXTURE_KEY = "Mixture";
+    private static final String DATA_KEY = "MixtureData";
+
+    /**
+     * The only keys a Mixture tag may have for it to be compressed. Tags with anything else in are left alone, so nothing is lost.
+     */
+    private static final Set<String> KNOWN_KEYS = Set.of("TranslationKey", "Temperature", "Contents", "AtEquilibrium", "Results");
+
+    private static final int HAS_TRANSLATION_KEY = 1;
+    private static final int HAS_TEMPERATURE = 1 << 1;
+    private static final int AT_EQUILIBRIUM = 1 << 2;
+    private static final int HAS_RESULTS = 1 << 3;
+
+    private static volatile SpeciesIndex speciesIndex = null;
+    private static boolean warnedMismatch = false;
+
+    /**
+     * Replace every Mixture tag in the given Block Entity client tag with its compact form. This is mutative.
+     * @param tag A tag written for a client packet
+     */
+    public static void compress(CompoundTag tag) {
+        Writer writer = new Writer(getSpeciesIndex());
+        compress(tag, writer);
+        if (!writer.wroteAny) return;
+        CompoundTag wireTag = new CompoundTag();
+        wireTag.putInt("Species", writer.index.checksum());
+        ListTag dictionaryTag = new ListTag();
+        for (String id : writer.dictionary) dictionaryTag.add(StringTag.valueOf(id));
+        wireTag.put("Dictionary", dictionaryTag);
+        tag.put(WIRE_KEY, wireTag);
+    };
+
+    /**
+     * Turn every compact Mixture in the given Block Entity client tag back into an ordinary Mixture tag.
+     * @param tag A tag received in a client packet
+     * @return The tag itself if nothing was compressed, or else an expanded copy (the received tag may be shared, so is not changed)
+     */
+    public static CompoundTag expand(CompoundTag tag) {
+        if (!tag.contains(WIRE_KEY, Tag.TAG_COMPOUND)) return tag;
+        CompoundTag expanded = tag.copy();
+        CompoundTag wireTag = expanded.getCompound(WIRE_KEY);
+        expanded.remove(WIRE_KEY);
+        SpeciesIndex index = getSpeciesIndex();
+        if (wireTag.getInt("Species") != index.checksum() && !warnedMismatch) {
+            warnedMismatch = true;
+            Destroy.LOGGER.warn("The server knows different Molecules to this client, so some Mixtures will be shown without them.");
+        };
+        List<String> dictionary = new ArrayList<>();
+        wireTag.getList("Dictionary", Tag.TAG_STRING).forEach(t -> dictionary.add(t.getAsString()));
+        expand(expanded, new Reader(index, dictionary, wireTag.getInt("Species") == index.checksum()));
+        return expanded;
+    };
+
+    private static void compress(Tag tag, Writer writer) {
+        if (tag instanceof CompoundTag compound) {
+            if (compound.contains(MIXTURE_KEY, Tag.TAG_COMPOUND)) {
+                byte[] data = writer.write(compound.getCompound(MIXTURE_KEY));
+                if (data != null) {
+                    compound.remove(MIXTURE_KEY);
+                    compound.putByteArray(DATA_KEY, data);
+                };
+            };
+            for (String key : compound.getAllKeys()) compress(compound.get(key), writer);
+        } else if (tag instanceof ListTag list) {
+            for (Tag element : list) compress(element, writer);
+        };
+    };
+
+    private static void expand(Tag tag, Reader reader) {
+        if (tag instanceof CompoundTag compound) {
+            if (compound.contains(DATA_KEY, Tag.TAG_BYTE_ARRAY)) {
+                compound.put(MIXTURE_KEY, reader.read(compound.getByteArray(DATA_KEY)));
+                compound.remove(DATA_KEY);
+            };
+            for (String key : compound.getAllKeys()) expand(compound.get(key), reader);
+        } else if (tag instanceof ListTag list) {
+            for (Tag element : list) expand(element, reader);
+        };
+    };
+
+    /**
+     * Round a non-negative float to 24 bits (keeping about five significant figures).
+     */
+    private static int quantise(float value) {
+        return (Float.floatToIntBits(Math.max(value, 0f)) + 0x80) >>> 8;
+    };
+
+    private static float unquantise(int value) {
+        return Float.intBitsToFloat(value << 8);
+    };
+
+    /**
+     * Get the index of every known Species, rebuilding it if any Species have been registered since it was last built.
+     */
+    private static SpeciesIndex getSpeciesIndex() {
+        SpeciesIndex index = speciesIndex;
+        if (index != null && index.ids().length == LegacySpecies.MOLECULES.size()) return index;
+        String[] ids = LegacySpecies.MOLECULES.keySet().toArray(String[]::new);
+        Arrays.sort(ids); // So the client and server agree on the index of each Species
+        Object2IntMap<String> indices = new Object2IntOpenHashMap<>(ids.length);
+        indices.defaultReturnValue(-1);
+        for (int i = 0; i < ids.length; i++) indices.put(ids[i], i);
+        index = new SpeciesIndex(ids, indices, Arrays.hashCode(ids));
+        speciesIndex = index;
+        return index;
+    };
+
+    private static record SpeciesIndex(String[] ids, Object2IntMap<String> indices, int checksum) {};
+
+    private static class Writer {
+
+        protected final SpeciesIndex index;
+        protected final List<String> dictionary = new ArrayList<>();
+        protected final Object2IntMap<String> dictionaryIndices = new Object2IntOpenHashMap<>();
+        protected boolean wroteAny = false;
+
+        protected Writer(SpeciesIndex index) {
+            this.index = index;
+            dictionaryIndices.defaultReturnValue(-1);
+        };
+
+        /**
+         * @return {@code null} if the Mixture tag has something in it which can't be written compactly
+         */
+        @Nullable
+        protected byte[] write(CompoundTag mixtureTag) {
+            for (String key : mixtureTag.getAllKeys()) if (!KNOWN_KEYS.contains(key)) return null;
+            FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+            try {
+                String translationKey = mixtureTag.getString("TranslationKey");
+                ListTag results = mixtureTag.getList("Results", Tag.TAG_COMPOUND);
+                int flags = 0;
+                if (!translationKey.isEmpty()) flags |= HAS_TRANSLATION_KEY;
+                if (mixtureTag.contains("Temperature", Tag.TAG_FLOAT)) flags |= HAS_TEMPERATURE;
+                if (mixtureTag.getBoolean("AtEquilibrium")) flags |= AT_EQUILIBRIUM;
+                if (!results.isEmpty()) flags |= HAS_RESULTS;
+                buffer.writeByte(flags);
+                if (!translationKey.isEmpty()) buffer.writeUtf(translationKey);
+                if (mixtureTag.contains("Temperature", Tag.TAG_FLOAT)) buffer.writeFloat(mixtureTag.getFloat("Temperature"));
+
+                ListTag contents = mixtureTag.getList("Contents", Tag.TAG_COMPOUND);
+                buffer.writeVarInt(contents.size());
+                for (Tag tag : contents) {
+                    CompoundTag moleculeTag = (CompoundTag)tag;
+                    boolean hasState = moleculeTag.contains("Gaseous", Tag.TAG_FLOAT);
+                    buffer.writeVarInt(getReference(moleculeTag.getString("Molecule")) << 1 | (hasState ? 1 : 0));
+                    buffer.writeMedium(quantise(moleculeTag.getFloat("Concentration")));
+                    if (hasState) buffer.writeShort(Mth.clamp(Math.round(moleculeTag.getFloat("Gaseous") * 65535f), 1, 65534)); // Never exactly liquid or gas, or the Mixture would stop boiling
+                };
+
+                if (!results.isEmpty()) {
+                    buffer.writeVarInt(results.size());
+                    for (Tag tag : results) {
+                        CompoundTag resultTag = (CompoundTag)tag;
+                        buffer.writeUtf(resultTag.getString("Result"));
+                        buffer.writeFloat(resultTag.getFloat("MolesPerBucket"));
+                    };
+                };
+
+                byte[] data = new byte[buffer.readableBytes()];
+                buffer.readBytes(data);
+                wroteAny = true;
+                return data;
+            } finally {
+                buffer.release();
+            };
+        };
+
+        /**
+         * Known Species are referred to by their index (shifted left, with the lowest bit {@code 0}), and anything else by its index in the dictionary
+         * (with the lowest bit {@code 1}).
+         */
+        protected int getReference(String id) {
+            int reference = index.indices().getInt(id);
+            if (reference >= 0) return reference << 1;
+            reference = dictionaryIndices.getInt(id);
+            if (reference < 0) {
+                reference = dictionary.size();
+                dictionary.add(id);
+                dictionaryIndices.put(id, reference);
+            };
+            return reference << 1 | 1;
+        };
+    };
+
+    private static class Reader {
+
+        protected final SpeciesIndex index;
+        protected final List<String> dictionary;
+        protected final boolean indexMatches;
+
+        protected Reader(SpeciesIndex index, List<String> dictionary, boolean indexMatches) {
+            this.index = index;
+            this.dictionary = dictionary;
+            this.indexMatches = indexMatches;
+        };
+
+        protected CompoundTag read(byte[] data) {
+            CompoundTag mixtureTag = new CompoundTag();
+            FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.wrappedBuffer(data));
+            int flags = buffer.readByte();
+            if ((flags & HAS_TRANSLATION_KEY) != 0) mixtureTag.putString("TranslationKey", buffer.readUtf());
+            if ((flags & HAS_TEMPERATURE) != 0) mixtureTag.putFloat("Temperature", buffer.readFloat());
+
+            ListTag contents = new ListTag();
+            int size = buffer.readVarInt();
+            for (int i = 0; i < size; i++) {
+                int reference = buffer.readVarInt();
+                float concentration = unquantise(buffer.readUnsignedMedium());
+                float state = (reference & 1) != 0 ? buffer.readUnsignedShort() / 65535f : -1f;
+                String id = getId(reference >> 1);
+                if (id == null) continue;
+                CompoundTag moleculeTag = new CompoundTag();
+                moleculeTag.putString("Molecule", id);
+                moleculeTag.putFloat("Concentration", concentration);
+                if (state >= 0f) moleculeTag.putFloat("Gaseous", state);
+                contents.add(moleculeTag);
+            };
+            mixtureTag.put("Contents", contents);
+
+            if ((flags & AT_EQUILIBRIUM) != 0) mixtureTag.putBoolean("AtEquilibrium", true);
+            if ((flags & HAS_RESULTS) != 0) {
+                ListTag results = new ListTag();
+                int resultCount = buffer.readVarInt();
+                for (int i = 0; i < resultCount; i++) {
+                    CompoundTag resultTag = new CompoundTag();
+                    resultTag.putString("Result", buffer.readUtf());
+                    resultTag.putFloat("MolesPerBucket", buffer.readFloat());
+                    results.add(resultTag);
+                };
+                mixtureTag.put("Results", results);
+            };
+            return mixtureTag;
+        };
+
+        @Nullable
+        protected String getId(int reference) {
+            int i = reference >> 1;
+            if ((reference & 1) != 0) return i < dictionary.size() ? dictionary.get(i) : null;
+            return indexMatches && i < index.ids().length ? index.ids()[i] : null;
+        };
+    };
+};
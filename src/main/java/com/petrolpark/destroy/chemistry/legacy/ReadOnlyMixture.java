@@ -3,7 +3,6 @@ package com.petrolpark.destroy.chemistry.legacy;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -66,17 +65,25 @@ public class ReadOnlyMixture {
      */
     protected float temperature;
 
+    /**
+     * The {@link LegacySpecies Molecules} contained by this Mixture, and their concentrations and {@link ReadOnlyMixture#states states}, stored in slots.
+     * {@link ReadOnlyMixture#contents} and {@link ReadOnlyMixture#states} are views of this.
+     */
+    protected final MixtureContents mixtureContents;
+
     /**
      * The {@link LegacySpecies Molecules} contained by this Mixture, mapped to their concentrations (in moles per Bucket).
+     * This is a {@link MixtureContents#concentrations view} of the {@link ReadOnlyMixture#mixtureContents contents}.
      */
-    protected Map<LegacySpecies, Float> contents;
+    protected final Map<LegacySpecies, Float> contents;
 
     /**
      * The {@link LegacySpecies Molecules} in this Mixture, mapped to the proportion of which are gaseous. For example, {@code 0}
      * means this Molecule is entirely liquid or aqueous, {@code 0.5} means they are half liquid and half gaseous, and {@code 1}
      * means the Molecule is entirely gaseous in this Mixture.
+     * This is a {@link MixtureContents#states view} of the {@link ReadOnlyMixture#mixtureContents contents}.
      */
-    protected Map<LegacySpecies, Float> states;
+    protected final Map<LegacySpecies, Float> states;
 
     /**
      * Whether any {@link LegacySpecies Molecules} are currently boiling or condensing (their {@link ReadOnlyMixture#states state} is not a whole number)
@@ -89,13 +96,42 @@ public class ReadOnlyMixture {
 
     public ReadOnlyMixture(float temperature) {
         translationKey = "";
-        contents = new HashMap<>();
+        mixtureContents = new MixtureContents();
+        contents = mixtureContents.concentrations();
         if (temperature < 0f) throw new IllegalStateException("Mixtures cannot be below 0K");
         this.temperature = temperature;
-        states = new HashMap<>();
+        states = mixtureContents.states();
         boiling = false;
     };
 
+    /**
+     * Copy the name, temperature and contents of another Mixture.
+     * @param mixture
+     */
+    protected ReadOnlyMixture(ReadOnlyMixture mixture) {
+        name = mixture.name;
+        translationKey = mixture.translationKey;
+        color = mixture.color;
+        temperature = mixture.temperature;
+        mixtureContents = mixture.mixtureContents.copy();
+        contents = mixtureContents.concentrations();
+        states = mixtureContents.states();
+        boiling = mixture.boiling;
+    };
+
+    /**
+     * Replace the name, temperature and contents of this Mixture with those of another Mixture.
+     * @param mixture
+     */
+    protected void copyFrom(ReadOnlyMixture mixture) {
+        name = mixture.name;
+        translationKey = mixture.translationKey;
+        color = mixture.color;
+        temperature = mixture.temperature;
+        mixtureContents.setTo(mixture.mixtureContents);
+        boiling = mixture.boiling;
+    };
+
     /**
      * Converts this Mixture into a storeable String that can be {@link ReadOnlyMixture#readNBT parsed back} into a Mixture.
      */
@@ -118,6 +154,7 @@ public class ReadOnlyMixture {
 
     /**
      * Generates a Read-Only Mixture from the given Compound Tag.
+     * If a tag with the same contents has been read into the same type of Mixture before, the Mixture is copied from the {@link MixtureNBTCache} instead.
      * @param compound
      * @return A new Read-Only Mixture instance
      */
@@ -127,6 +164,14 @@ public class ReadOnlyMixture {
             Destroy.LOGGER.warn("Null Mixture read");
             return mixture;  
         };
+        boolean cache = MixtureNBTCache.isEnabled() && !(mixture instanceof LegacyMixture); // Mixtures which can react have their own way of being read
+        if (cache) {
+            ReadOnlyMixture cachedMixture = MixtureNBTCache.get(mixture.getClass(), compound);
+            if (cachedMixture != null) {
+                mixture.copyFrom(cachedMixture);
+                return mixture;
+            };
+        };
         mixture.translationKey = compound.getString("TranslationKey"); // Set to "" if the key is not present
         if (compound.contains("Temperature")) mixture.temperature = compound.getFloat("Temperature");
         ListTag contents = compound.getList("Contents", 10);
@@ -140,6 +185,11 @@ public class ReadOnlyMixture {
         });
         mixture.updateName();
         mixture.updateColor();
+        if (cache) {
+            T cachedMixture = newMixture.get();
+            cachedMixture.copyFrom(mixture);
+            MixtureNBTCache.put(compound, cachedMixture);
+        };
         return mixture;
     };
 
@@ -196,11 +246,7 @@ public class ReadOnlyMixture {
      * @return 0 if the Mixture does not contain the given Molecule
      */
     public float getConcentrationOf(LegacySpecies molecule) {
-        if (contents.containsKey(molecule)) {
-            return contents.get(molecule);
-        } else {
-            return 0f;
-        }
+        return mixtureContents.getConcentration(molecule);
     };
 
     /**
@@ -208,11 +254,7 @@ public class ReadOnlyMixture {
      * @return in moles per bucket
      */
     public float getTotalConcentration() {
-        float total = 0f;
-        for (Float concentration : contents.values()) {
-            total += concentration;
-        };
-        return total;
+        return mixtureContents.getTotalConcentration();
     };
 
     /**
@@ -266,8 +308,9 @@ public class ReadOnlyMixture {
             return this;
         };
 
-        contents.put(molecule, concentration);
-        states.put(molecule, molecule.getBoilingPoint() < temperature ? 1f : 0f);
+        int slot = mixtureContents.getOrAddSlot(molecule);
+        mixtureContents.setConcentration(slot, concentration);
+        mixtureContents.setState(slot, molecule.getBoilingPoint() < temperature ? 1f : 0f);
 
         return this;
     };
@@ -0,0 +1,373 @@
+package com.petrolpark.destroy.chemistry.legacy;
+
+import java.util.Arrays;
+
+/**
+ * Integrates the rates of all the {@link LegacyReaction Reactions} in a {@link LegacyMixture} over a period of time together, using the two-stage
+ * Rosenbrock method ROS2 with an adaptive step size.
+ * <p>Fast reversible Reactions (such as acid-base equilibria) make the kinetics of a Mixture stiff: the explicit method in {@link LegacyMixture#reactForTick}
+ * only stays stable if each step is very small, so the only way to make it more accurate is to raise the Simulation Level. Rosenbrock methods are
+ * linearly implicit, so they stay stable with steps far longer than the time it takes a fast Reaction to reach equilibrium, and once the Mixture is
+ * close to equilibrium a whole tick can usually be taken in one step.</p>
+ * <p>The unknowns are the extents of each Reaction (in moles per Bucket), rather than the concentrations of each {@link LegacySpecies Molecule}, so the
+ * Mixture can then enact exactly that much of each Reaction, including its heat and {@link ReactionResult Results}. Only Molecules already in the Mixture
+ * are tracked - rates never depend on products which aren't in the Mixture yet, as Reactions involving them aren't possible until the Mixture refreshes its
+ * possible Reactions. Rate constants (and so the temperature) are held fixed over the period being solved.</p>
+ * <p>Each Mixture keeps its own solver, so the arrays can be reused every tick.</p>
+ */
+public class RosenbrockKineticsSolver {
+
+    /**
+     * The coefficient of ROS2, which makes it L-stable.
+     */
+    private static final double GAMMA = 1d + 1d / Math.sqrt(2d);
+    /**
+     * Errors in concentration smaller than this (in moles per Bucket) are always allowed. This is smaller than the
+     * difference in concentration which {@link LegacyMixture#areVeryClose counts as a change}.
+     */
+    private static final double ABSOLUTE_TOLERANCE = 1e-6d;
+    /**
+     * The most steps which will be attempted in one call to {@link RosenbrockKineticsSolver#solve solve}.
+     */
+    private static final int MAX_STEPS = 256;
+
+    private int speciesCount;
+    private int reactionCount;
+
+    // Reactions
+    private double[] rateConstants = new double[0];
+    private int[] orderStarts = new int[1];
+    private int[] orderSlots = new int[0];
+    private int[] orderValues = new int[0];
+    /**
+     * The change in concentration of each Molecule for each mole per Bucket of each Reaction, with the Reactions for each Molecule stored together.
+     */
+    private double[] stoichiometry = new double[0];
+
+    // State
+    private double[] concentrations = new double[0];
+    private double[] extents = new double[0];
+    /**
+     * The step size at which the last call to {@link RosenbrockKineticsSolver#solve solve} finished, in ticks. The next call starts from this.
+     */
+    private double stepSize = 1d;
+    /**
+     * How far through its duration the last call to {@link RosenbrockKineticsSolver#solve solve} got, in the units of time it was given.
+     */
+    private double solvedTime = 0d;
+
+    // Working arrays
+    private double[] trialConcentrations = new double[0];
+    private double[] newConcentrations = new double[0];
+    private double[] rates = new double[0];
+    private double[] jacobian = new double[0];
+    private int[] pivots = new int[0];
+    private double[] k1 = new double[0];
+    private double[] k2 = new double[0];
+
+    /**
+     * Work out how much of each Reaction happens over the given time.
+     * The results can then be read with {@link RosenbrockKineticsSolver#getExtent} and {@link RosenbrockKineticsSolver#getConcentration}.
+     * @param contents The Molecules in the Mixture. These are not modified
+     * @param reactions The Reactions which can happen
+     * @param reactionRateConstants The rate constant of each Reaction in the given units of time, including anything else (such as UV) which affects it
+     * @param reactionCount The number of Reactions, which may be less than the length of the arrays
+     * @param duration The time to solve over, in the same units as the rate constants
+     * @param relativeTolerance The allowed error in concentrations in each step, relative to the concentration
+     * @return {@code false} if the solver gave up before reaching the end of the duration, in which case the results are how far it got
+     */
+    public boolean solve(MixtureContents contents, LegacyReaction[] reactions, float[] reactionRateConstants, int reactionCount, double duration, double relativeTolerance) {
+        prepare(contents, reactions, reactionRateConstants, reactionCount);
+        solvedTime = 0d;
+        if (reactionCount == 0) {
+            solvedTime = duration;
+            return true;
+        };
+
+        int m = reactionCount;
+        double time = 0d;
+        int steps = 0;
+
+        while (time < duration) {
+            if (steps++ >= MAX_STEPS) return false;
+            double h = Math.min(stepSize, duration - time);
+            boolean lastStep = h >= duration - time;
+
+            // Factorise W = I - gamma * h * J, where J is the Jacobian of the rates of each Reaction with respect to the extent of each Reaction
+            calculateRates(concentrations, rates);
+            calculateJacobian(concentrations);
+            for (int i = 0; i < m * m; i++) jacobian[i] *= -GAMMA * h;
+            for (int i = 0; i < m; i++) jacobian[i * m + i] += 1d;
+            if (!decompose(jacobian, pivots, m)) {
+                stepSize = h * 0.5d;
+                continue;
+            };
+
+            // First stage: W * k1 = f(y)
+            System.arraycopy(rates, 0, k1, 0, m);
+            substitute(jacobian, pivots, k1, m);
+
+            // Second stage: W * k2 = f(y + h * k1) - 2 * k1
+            applyExtents(concentrations, k1, h, trialConcentrations);
+            calculateRates(trialConcentrations, k2);
+            for (int j = 0; j < m; j++) k2[j] -= 2d * k1[j];
+            substitute(jacobian, pivots, k2, m);
+
+            // New extents are y + 3/2 h k1 + 1/2 h k2, and the first-order estimate y + h k1 differs from this by 1/2 h (k1 + k2)
+            for (int j = 0; j < m; j++) {
+                double step = h * (1.5d * k1[j] + 0.5d * k2[j]);
+                double error = 0.5d * h * (k1[j] + k2[j]);
+                k1[j] = step;
+                k2[j] = error;
+            };
+            applyExtents(concentrations, k1, 1d, newConcentrations);
+            applyExtents(null, k2, 1d, trialConcentrations); // The error in the concentration of each Molecule
+
+            double errorNorm = 0d;
+            boolean negative = false;
+            for (int i = 0; i < speciesCount; i++) {
+                double scale = ABSOLUTE_TOLERANCE + relativeTolerance * Math.max(Math.abs(concentrations[i]), Math.abs(newConcentrations[i]));
+                double scaledError = trialConcentrations[i] / scale;
+                errorNorm += scaledError * scaledError;
+                if (newConcentrations[i] < -ABSOLUTE_TOLERANCE) negative = true;
+            };
+            errorNorm = speciesCount == 0 ? 0d : Math.sqrt(errorNorm / speciesCount);
+
+            double factor = errorNorm == 0d ? 5d : Math.max(0.2d, Math.min(5d, 0.9d / Math.sqrt(errorNorm)));
+            if (negative || Double.isNaN(errorNorm)) factor = Math.min(0.25d, Double.isNaN(factor) ? 0.25d : factor);
+
+            if (errorNorm <= 1d && !negative) { // Accept the step
+                for (int j = 0; j < m; j++) extents[j] += k1[j];
+                double[] swap = concentrations;
+                concentrations = newConcentrations;
+                newConcentrations = swap;
+                time = lastStep ? duration : time + h;
+                solvedTime = time;
+                if (lastStep) factor = Math.max(factor, stepSize / h); // Don't shrink the step size just because the last step was cut short
+            };
+            stepSize = h * factor;
+        };
+
+        return true;
+    };
+
+    /**
+     * How much of the duration the last {@link RosenbrockKineticsSolver#solve solve} got through, which is less than the whole duration if it gave up.
+     * The {@link RosenbrockKineticsSolver#getExtent extents} and {@link RosenbrockKineticsSolver#getConcentration concentrations} are for this long.
+     */
+    public double getSolvedTime() {
+        return solvedTime;
+    };
+
+    /**
+     * The number of {@link LegacySpecies Molecules} (the slots of the {@link MixtureContents}) tracked in the last solve.
+     */
+    public int getSpeciesCount() {
+        return speciesCount;
+    };
+
+    /**
+     * How much of the given Reaction happened in the last solve.
+     * @param reaction The index of the Reaction in the array passed to {@link RosenbrockKineticsSolver#solve solve}
+     * @return In moles per Bucket
+     */
+    public double getExtent(int reaction) {
+        return extents[reaction];
+    };
+
+    /**
+     * The concentration of the given slot at the end of the last solve.
+     * @param slot The slot of the Molecule in the {@link MixtureContents}, which must be less than the {@link RosenbrockKineticsSolver#getSpeciesCount number of Molecules}
+     * @return In moles per Bucket. This may be very slightly negative
+     */
+    public double getConcentration(int slot) {
+        return concentrations[slot];
+    };
+
+    private void prepare(MixtureContents contents, LegacyReaction[] reactions, float[] reactionRateConstants, int reactionCount) {
+        int n = contents.size();
+        int m = reactionCount;
+        this.speciesCount = n;
+        this.reactionCount = m;
+
+        if (concentrations.length < n) {
+            int capacity = Math.max(n, concentrations.length * 2);
+            concentrations = new double[capacity];
+            trialConcentrations = new double[capacity];
+            newConcentrations = new double[capacity];
+        };
+        if (rateConstants.length < m) {
+            int capacity = Math.max(m, rateConstants.length * 2);
+            rateConstants = new double[capacity];
+            orderStarts = new int[capacity + 1];
+            extents = new double[capacity];
+            rates = new double[capacity];
+            pivots = new int[capacity];
+            k1 = new double[capacity];
+            k2 = new double[capacity];
+            jacobian = new double[capacity * capacity];
+        };
+        if (stoichiometry.length < n * m) stoichiometry = new double[Math.max(n * m, stoichiometry.length * 2)];
+
+        for (int i = 0; i < n; i++) concentrations[i] = contents.getConcentration(i);
+        Arrays.fill(extents, 0, m, 0d);
+        Arrays.fill(stoichiometry, 0, n * m, 0d);
+
+        int orderCount = 0;
+        for (int j = 0; j < m; j++) orderCount += reactions[j].getOrderCoefficients().size();
+        if (orderSlots.length < orderCount) {
+            orderSlots = new int[Math.max(orderCount, orderSlots.length * 2)];
+            orderValues = new int[orderSlots.length];
+        };
+
+        int order = 0;
+        for (int j = 0; j < m; j++) {
+            LegacyReaction reaction = reactions[j];
+            rateConstants[j] = reactionRateConstants[j];
+
+            orderStarts[j] = order;
+            LegacyReaction.Coefficients orders = reaction.getOrderCoefficients();
+            for (int o = 0; o < orders.size(); o++) {
+                int slot = contents.getSlot(orders.molecules()[o]);
+                if (slot == -1) { // A Molecule affecting the rate isn't in the Mixture at all
+                    if (orders.values()[o] > 0) rateConstants[j] = 0d;
+                    continue;
+                };
+                orderSlots[order] = slot;
+                orderValues[order] = orders.values()[o];
+                order++;
+            };
+
+            LegacyReaction.Coefficients reactants = reaction.getReactantCoefficients();
+            for (int r = 0; r < reactants.size(); r++) {
+                int slot = contents.getSlot(reactants.molecules()[r]);
+                if (slot != -1) stoichiometry[slot * m + j] -= reactants.values()[r];
+            };
+            LegacyReaction.Coefficients products = reaction.getProductCoefficients();
+            for (int p = 0; p < products.size(); p++) {
+                int slot = contents.getSlot(products.molecules()[p]);
+                if (slot != -1) stoichiometry[slot * m + j] += products.values()[p];
+            };
+        };
+        orderStarts[m] = order;
+    };
+
+    /**
+     * Calculate the rate of every Reaction.
+     * @param y Concentrations of each Molecule
+     * @param result Filled with the rates
+     */
+    private void calculateRates(double[] y, double[] result) {
+        for (int j = 0; j < reactionCount; j++) {
+            double rate = rateConstants[j];
+            for (int o = orderStarts[j]; o < orderStarts[j + 1] && rate != 0d; o++) {
+                rate *= Math.pow(Math.max(y[orderSlots[o]], 0d), orderValues[o]);
+            };
+            result[j] = rate;
+        };
+    };
+
+    /**
+     * Fill the {@link RosenbrockKineticsSolver#jacobian Jacobian} with the derivative of the rate of each Reaction (rows) with respect to the extent of each Reaction (columns).
+     * @param y Concentrations of each Molecule
+     */
+    private void calculateJacobian(double[] y) {
+        int m = reactionCount;
+        Arrays.fill(jacobian, 0, m * m, 0d);
+        for (int j = 0; j < m; j++) {
+            if (rateConstants[j] == 0d) continue;
+            for (int o = orderStarts[j]; o < orderStarts[j + 1]; o++) {
+                int order = orderValues[o];
+                if (order == 0) continue;
+
+                // Derivative of the rate with respect to the concentration of this Molecule
+                double derivative = rateConstants[j] * order * Math.pow(Math.max(y[orderSlots[o]], 0d), order - 1);
+                for (int other = orderStarts[j]; other < orderStarts[j + 1] && derivative != 0d; other++) {
+                    if (other != o) derivative *= Math.pow(Math.max(y[orderSlots[other]], 0d), orderValues[other]);
+                };
+                if (derivative == 0d) continue;
+
+                // Chain rule through the change in concentration of this Molecule caused by each Reaction
+                int stoichiometryRow = orderSlots[o] * m;
+                int jacobianRow = j * m;
+                for (int l = 0; l < m; l++) jacobian[jacobianRow + l] += derivative * stoichiometry[stoichiometryRow + l];
+            };
+        };
+    };
+
+    /**
+     * Work out the concentrations of each Molecule after some extent of each Reaction.
+     * @param y Starting concentrations, or {@code null} to start from zero
+     * @param changes Extent of each Reaction
+     * @param multiplier Multiplier for every extent
+     * @param result Filled with the new concentrations
+     */
+    private void applyExtents(double[] y, double[] changes, double multiplier, double[] result) {
+        int m = reactionCount;
+        for (int i = 0; i < speciesCount; i++) {
+            double concentration = y == null ? 0d : y[i];
+            int row = i * m;
+            for (int j = 0; j < m; j++) concentration += stoichiometry[row + j] * changes[j] * multiplier;
+            result[i] = concentration;
+        };
+    };
+
+    /**
+     * LU decomposition with partial pivoting, in place.
+     * @return {@code false} if the matrix is singular
+     */
+    private static boolean decompose(double[] matrix, int[] pivots, int size) {
+        for (int column = 0; column < size; column++) {
+            int pivot = column;
+            double largest = Math.abs(matrix[column * size + column]);
+            for (int row = column + 1; row < size; row++) {
+                double value = Math.abs(matrix[row * size + column]);
+                if (value > largest) {
+                    largest = value;
+                    pivot = row;
+                };
+            };
+            if (largest < 1e-300d || !Double.isFinite(largest)) return false;
+            pivots[column] = pivot;
+            if (pivot != column) {
+                for (int k = 0; k < size; k++) {
+                    double swap = matrix[column * size + k];
+                    matrix[column * size + k] = matrix[pivot * size + k];
+                    matrix[pivot * size + k] = swap;
+                };
+            };
+            double diagonal = matrix[column * size + column];
+            for (int row = column + 1; row < size; row++) {
+                double factor = matrix[row * size + column] / diagonal;
+                matrix[row * size + column] = factor;
+                if (factor == 0d) continue;
+                for (int k = column + 1; k < size; k++) matrix[row * size + k] -= factor * matrix[column * size + k];
+            };
+        };
+        return true;
+    };
+
+    /**
+     * Solve a system {@link RosenbrockKineticsSolver#decompose decomposed} into LU form, in place.
+     */
+    private static void substitute(double[] matrix, int[] pivots, double[] vector, int size) {
+        for (int i = 0; i < size; i++) {
+            int pivot = pivots[i];
+            if (pivot != i) {
+                double swap = vector[i];
+                vector[i] = vector[pivot];
+                vector[pivot] = swap;
+            };
+        };
+        for (int row = 0; row < size; row++) {
+            double sum = vector[row];
+            for (int k = 0; k < row; k++) sum -= matrix[row * size + k] * vector[k];
+            vector[row] = sum;
+        };
+        for (int row = size - 1; row >= 0; row--) {
+            double sum = vector[row];
+            for (int k = row + 1; k < size; k++) sum -= matrix[row * size + k] * vector[k];
+            vector[row] = sum / matrix[row * size + row];
+        };
+    };
+};
@@ -0,0 +1,112 @@
+package com.petrolpark.destroy.chemistry.legacy.genericreaction;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+import com.petrolpark.destroy.chemistry.legacy.LegacyFunctionalGroup;
+import com.petrolpark.destroy.chemistry.legacy.LegacyReaction;
+import com.petrolpark.destroy.chemistry.legacy.LegacySpecies;
+import com.petrolpark.destroy.config.DestroyChemistryConfigs;
+
+import net.minecraft.resources.ResourceLocation;
+
+/**
+ * A store of {@link LegacyReaction Reactions} generated by {@link GenericReaction Generic Reactions}, shared between every {@link com.petrolpark.destroy.chemistry.legacy.LegacyMixture Mixture}.
+ * Specifying a Generic Reaction builds new {@link LegacySpecies Molecules} for all the products, which is slow, and the same specification is usually
+ * needed by many different Mixtures.
+ * <p>Generated Reactions are keyed by the {@link GenericReaction#id ID} of the Generic Reaction and the identity of the {@link GenericReactant Reactant} Molecules
+ * and {@link LegacyFunctionalGroup functional Groups}, so only Reactants which are literally the same Molecule object (such as all known Molecules) share Reactions.
+ * Impossible Reactions are remembered too. The least recently used Reactions are forgotten once the {@link DestroyChemistryConfigs#genericReactionCacheSize configured size} is exceeded.</p>
+ * <p>This is safe to access from multiple threads.</p>
+ */
+public class GenericReactionCache {
+
+    private static final Map<Key, Optional<LegacyReaction>> REACTIONS = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Optional<LegacyReaction>> eldest) {
+            if (size() > DestroyChemistryConfigs.genericReactionCacheSize()) {
+                EVICTIONS.incrementAndGet();
+                return true;
+            };
+            return false;
+        };
+    };
+
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+    private static final AtomicLong EVICTIONS = new AtomicLong();
+
+    /**
+     * Get the {@link LegacyReaction} the given {@link GenericReaction} generates for the given {@link GenericReactant Reactants}, generating it if it has not been already.
+     * @param genericReaction
+     * @param firstReactant
+     * @param secondReactant {@code null} for {@link SingleGroupGenericReaction Single Group Generic Reactions}
+     * @param generator Generates the Reaction. This may throw {@link com.petrolpark.destroy.chemistry.api.error.ChemistryException Chemistry Exceptions}, which are not cached
+     * @return {@code null} if the Reaction is impossible
+     */
+    @Nullable
+    public static LegacyReaction getOrGenerate(GenericReaction genericReaction, GenericReactant<?> firstReactant, @Nullable GenericReactant<?> secondReactant, Supplier<LegacyReaction> generator) {
+        if (DestroyChemistryConfigs.genericReactionCacheSize() <= 0) return generator.get();
+
+        Key key = new Key(genericReaction.id, firstReactant.getMolecule(), firstReactant.getGroup(), secondReactant == null ? null : secondReactant.getMolecule(), secondReactant == null ? null : secondReactant.getGroup());
+        Optional<LegacyReaction> reaction;
+        synchronized (REACTIONS) {
+            reaction = REACTIONS.get(key);
+        };
+        if (reaction != null) {
+            HITS.incrementAndGet();
+            return reaction.orElse(null);
+        };
+
+        MISSES.incrementAndGet();
+        reaction = Optional.ofNullable(generator.get()); // Generate outside the lock, as this is the slow bit
+        synchronized (REACTIONS) {
+            Optional<LegacyReaction> existingReaction = REACTIONS.putIfAbsent(key, reaction); // If another thread got there first, use theirs so the Reaction is shared
+            if (existingReaction != null) reaction = existingReaction;
+        };
+        return reaction.orElse(null);
+    };
+
+    /**
+     * Forget all generated {@link LegacyReaction Reactions}.
+     */
+    public static void clear() {
+        synchronized (REACTIONS) {
+            REACTIONS.clear();
+        };
+    };
+
+    public static int getSize() {
+        synchronized (REACTIONS) {
+            return REACTIONS.size();
+        };
+    };
+
+    /**
+     * The number of times a {@link LegacyReaction} was requested which had already been generated.
+     */
+    public static long getHits() {
+        return HITS.get();
+    };
+
+    /**
+     * The number of times a {@link LegacyReaction} was requested which had to be generated.
+     */
+    public static long getMisses() {
+        return MISSES.get();
+    };
+
+    /**
+     * The number of generated {@link LegacyReaction Reactions} which have been forgotten to make room for new ones.
+     */
+    public static long getEvictions() {
+        return EVICTIONS.get();
+    };
+
+    private static record Key(ResourceLocation genericReactionId, LegacySpecies firstMolecule, LegacyFunctionalGroup<?> firstGroup, @Nullable LegacySpecies secondMolecule, @Nullable LegacyFunctionalGroup<?> secondGroup) {};
+};
@@ -0,0 +1,205 @@
+package com.petrolpark.destroy.chemistry.serializer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import com.petrolpark.destroy.chemistry.legacy.LegacyAtom;
+import com.petrolpark.destroy.chemistry.legacy.LegacyBond;
+import com.petrolpark.destroy.chemistry.legacy.LegacyBond.BondType;
+
+/**
+ * Finds the {@link Branch Branches} used to write <a href="https://github.com/petrolpark/Destroy/wiki/FROWNS">FROWNS</a> codes of acyclic structures.
+ * <p>The structure is copied once into arrays of neighbours, and each Branch is built once and its mass worked out once for each starting {@link LegacyAtom},
+ * rather than copying the whole structure and searching it again at every fork. The Branch chosen at each fork is the one with the highest total mass, as it always has been.
+ * Where there is a tie, the Branch with the alphabetically-first FROWNS code is chosen, and side Branches are always written in the same order, so the same structure always gets the same FROWNS code.</p>
+ */
+public class MaximumBranchFinder {
+
+    private final LegacyAtom[] atoms;
+    private final int[][] neighbours;
+    private final BondType[][] bondTypes;
+    private final int[] bondCounts;
+    private final float[] masses;
+
+    // Per-starting-Atom working arrays
+    private final int[] parents;
+    private final int[] stack;
+
+    /**
+     * @param structure The {@link com.petrolpark.destroy.chemistry.legacy.LegacyMolecularStructure#structure structure}, usually with its neutral hydrogens stripped
+     */
+    public MaximumBranchFinder(Map<LegacyAtom, List<LegacyBond>> structure) {
+        int size = structure.size();
+        atoms = structure.keySet().toArray(new LegacyAtom[size]);
+        Map<LegacyAtom, Integer> indices = new IdentityHashMap<>(size);
+        for (int i = 0; i < size; i++) indices.put(atoms[i], i);
+
+        neighbours = new int[size][];
+        bondTypes = new BondType[size][];
+        bondCounts = new int[size];
+        masses = new float[size];
+        for (int i = 0; i < size; i++) {
+            List<LegacyBond> bonds = structure.get(atoms[i]);
+            int[] atomNeighbours = new int[bonds.size()];
+            BondType[] atomBondTypes = new BondType[bonds.size()];
+            int count = 0;
+            for (LegacyBond bond : bonds) {
+                Integer neighbour = indices.get(bond.getDestinationAtom());
+                if (neighbour == null) continue; // Ignore Bonds to Atoms which have been stripped out
+                atomNeighbours[count] = neighbour;
+                atomBondTypes[count] = bond.getType();
+                count++;
+            };
+            neighbours[i] = Arrays.copyOf(atomNeighbours, count);
+            bondTypes[i] = Arrays.copyOf(atomBondTypes, count);
+            bondCounts[i] = bonds.size();
+            masses[i] = Branch.getMassForComparisonInSerialization(atoms[i]);
+        };
+
+        parents = new int[size];
+        stack = new int[size];
+    };
+
+    /**
+     * Get the biggest directed {@link Branch} starting from the given {@link LegacyAtom}.
+     * @param startAtom
+     * @return {@code null} if the part of the structure connected to the starting Atom contains a ring, in which case this cannot be used
+     */
+    @Nullable
+    public Branch getMaximumBranch(LegacyAtom startAtom) {
+        for (int i = 0; i < atoms.length; i++) {
+            if (atoms[i] == startAtom) return getMaximumBranch(i);
+        };
+        throw new IllegalArgumentException("Starting Atom is not in this structure");
+    };
+
+    /**
+     * Get the {@link Branch} from which the FROWNS code of a linear structure is written.
+     * This starts from the lightest terminal {@link LegacyAtom}, and of those, the one giving the heaviest longest chain.
+     * If the structure is just one Atom, the Branch is just that Atom.
+     * @return {@code null} if the structure contains a ring or has no terminal Atoms, in which case this cannot be used
+     */
+    @Nullable
+    public Branch getMaximumBranchWithHighestMass() {
+        if (atoms.length == 1) return getMaximumBranch(0);
+
+        List<Integer> terminalAtoms = new ArrayList<>();
+        float lightestTerminalAtomMass = Float.MAX_VALUE;
+        for (int i = 0; i < atoms.length; i++) {
+            if (bondCounts[i] != 1) continue;
+            if (masses[i] < lightestTerminalAtomMass) {
+                lightestTerminalAtomMass = masses[i];
+                terminalAtoms.clear();
+            };
+            if (masses[i] == lightestTerminalAtomMass) terminalAtoms.add(i);
+        };
+
+        Branch bestBranch = null;
+        float bestMass = -1f;
+        String bestFROWNSCode = null;
+        for (int terminalAtom : terminalAtoms) {
+            Branch branch = getMaximumBranch(terminalAtom);
+            if (branch == null) return null;
+            float mass = branch.getMassOfLongestChain();
+            int comparison = Float.compare(mass, bestMass);
+            if (comparison == 0) { // Tie-break on the FROWNS code so the result is always the same
+                if (bestFROWNSCode == null) bestFROWNSCode = bestBranch.serialize();
+                String FROWNSCode = branch.serialize();
+                if (FROWNSCode.compareTo(bestFROWNSCode) < 0) {
+                    bestBranch = branch;
+                    bestFROWNSCode = FROWNSCode;
+                };
+            } else if (comparison > 0) {
+                bestBranch = branch;
+                bestMass = mass;
+                bestFROWNSCode = null;
+            };
+        };
+        return bestBranch;
+    };
+
+    @Nullable
+    private Branch getMaximumBranch(int root) {
+        // Depth-first traversal to find the parent of each Atom, checking there are no rings
+        Arrays.fill(parents, -2); // -2 marks Atoms not connected to the root
+        int stackSize = 0;
+        parents[root] = -1;
+        stack[stackSize++] = root;
+        while (stackSize > 0) {
+            int atom = stack[--stackSize];
+            boolean parentSeen = false;
+            for (int neighbour : neighbours[atom]) {
+                if (neighbour == parents[atom] && !parentSeen) {
+                    parentSeen = true;
+                } else if (parents[neighbour] != -2) {
+                    return null; // There is a ring
+                } else {
+                    parents[neighbour] = atom;
+                    stack[stackSize++] = neighbour;
+                };
+            };
+        };
+        return buildBranch(root);
+    };
+
+    private Branch buildBranch(int startAtom) {
+        Node startNode = new Node(atoms[startAtom]);
+        startNode.visited = true;
+        Branch branch = new Branch(startNode);
+
+        int currentAtom = startAtom;
+        while (true) {
+            int childCount = neighbours[currentAtom].length - (parents[currentAtom] == -1 ? 0 : 1);
+            if (childCount == 0) break;
+
+            if (childCount == 1) {
+                for (int i = 0; i < neighbours[currentAtom].length; i++) {
+                    int neighbour = neighbours[currentAtom][i];
+                    if (neighbour == parents[currentAtom]) continue;
+                    branch.add(new Node(atoms[neighbour]), bondTypes[currentAtom][i]);
+                    currentAtom = neighbour;
+                    break;
+                };
+                continue;
+            };
+
+            // At a fork, the heaviest child continues this Branch and the rest become side Branches
+            List<ChildBranch> childBranches = new ArrayList<>(childCount);
+            for (int i = 0; i < neighbours[currentAtom].length; i++) {
+                int neighbour = neighbours[currentAtom][i];
+                if (neighbour == parents[currentAtom]) continue;
+                Branch childBranch = buildBranch(neighbour);
+                childBranches.add(new ChildBranch(childBranch, bondTypes[currentAtom][i], childBranch.getMass()));
+            };
+            Map<ChildBranch, String> FROWNSCodes = new HashMap<>();
+            childBranches.sort((b1, b2) -> {
+                int comparison = Float.compare(b2.mass(), b1.mass());
+                if (comparison != 0) return comparison;
+                return FROWNSCodes.computeIfAbsent(b1, ChildBranch::serialize).compareTo(FROWNSCodes.computeIfAbsent(b2, ChildBranch::serialize));
+            });
+
+            Node forkNode = branch.getEndNode();
+            ChildBranch biggestBranch = childBranches.get(0);
+            branch.add(biggestBranch.branch(), biggestBranch.bondType());
+            for (ChildBranch sideBranch : childBranches.subList(1, childBranches.size())) {
+                forkNode.addSideBranch(sideBranch.branch(), sideBranch.bondType());
+            };
+            break;
+        };
+
+        return branch;
+    };
+
+    private static record ChildBranch(Branch branch, BondType bondType, float mass) {
+
+        public String serialize() {
+            return bondType.getFROWNSCode() + branch.serialize();
+        };
+    };
+};
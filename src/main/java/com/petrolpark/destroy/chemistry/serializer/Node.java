@@ -2,7 +2,7 @@ package com.petrolpark.destroy.chemistry.serializer;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -22,7 +22,7 @@ public class Node {
         this.atom = atom;
         visited = false;
         edges = new ArrayList<>();
-        sideBranches = new HashMap<>();
+        sideBranches = new LinkedHashMap<>(); // Keep the order in which side Branches are added, so serialization is consistent
     };
 
     public String serialize() {
@@ -0,0 +1,27 @@
+package com.petrolpark.destroy.commands;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.context.CommandContext;
+import com.petrolpark.destroy.chemistry.legacy.genericreaction.GenericReactionCache;
+import com.petrolpark.destroy.recipe.ReactionInBasinCache;
+
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+
+public class CacheStatsCommand {
+
+    public CacheStatsCommand(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal("chemistrycaches")
+            .requires(cs -> cs.hasPermission(2))
+            .executes(CacheStatsCommand::cacheStats)
+        );
+    };
+
+    private static int cacheStats(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+        source.sendSuccess(() -> Component.translatable("commands.destroy.chemistrycaches.generic_reactions", GenericReactionCache.getSize(), GenericReactionCache.getHits(), GenericReactionCache.getMisses(), GenericReactionCache.getEvictions()), false);
+        source.sendSuccess(() -> Component.translatable("commands.destroy.chemistrycaches.basin_reactions", ReactionInBasinCache.getSize(), ReactionInBasinCache.getHits(), ReactionInBasinCache.getMisses(), ReactionInBasinCache.getEvictions()), false);
+        return GenericReactionCache.getSize() + ReactionInBasinCache.getSize();
+    };
+};
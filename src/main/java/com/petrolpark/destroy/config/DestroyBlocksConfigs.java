@@ -12,6 +12,7 @@ public class DestroyBlocksConfigs extends DestroyConfigBase {
     public final ConfigGroup bubbleCap = group(0, "bubbleCap", "Bubble Cap");
     public final ConfigInt bubbleCapCapacity = i(1000, 1, "bubbleCapCapacity", "[in mB]", "Fluid capacity of Bubble Caps", "[setting this too low may make some recpies impossible]");
     public final ConfigInt bubbleCapRecipeFrequency = i(100, 1, "bubbleCapRecipeFrequency", "[in ticks]", "How often distillation towers try and distill");
+    public final ConfigInt distillationTowerMaxBatches = i(4, 1, "distillationTowerMaxBatches", "The most times over distillation towers can carry out their Recipe each time they distill, if the Bubble Caps have room");
 
     public final ConfigGroup catalyticConverter = group(0, "catalyticConverter", "Catalytic Converter");
     public final ConfigFloat catalyticConverterReduction = f(0.25f, 0f, Float.MAX_VALUE, "catalyticConverterReduction", "The proportion by which Fluids polluted through a Catalytic Converter have their potential pollution multiplied.");
@@ -52,6 +53,7 @@ public class DestroyBlocksConfigs extends DestroyConfigBase {
     public final ConfigGroup vat = group(0, "vat", "Vat");
     public final ConfigBool vatExplodesAtHighPressure = b(true, "vatExplodesAtHighPressure", "Whether Vats explode if the pressure exceeds the maximum of the weakest block.");
     public final ConfigInt simulationLevel = i(10, "simulationLevel", "How many times per tick reactions and thermodynamics are simulated.", "Increasing this may cause lag. Decreasing it can cause flickering in Vats.");
+    public final ConfigInt vatReactionThreads = i(0, 0, 64, "vatReactionThreads", "How many threads Vats react their Mixtures on, in parallel with the server thread.", "Reactions then take effect a tick later.", "[0 to react on the server thread]");
     public final ConfigFloat blazeBurnerHeatingPower = f(15000000f, -Float.MAX_VALUE, Float.MAX_VALUE, "blazeBurnerHeatingPower", "The power supplied by kindled Blaze Burners to Vats and Basins");
     public final ConfigFloat blazeBurnerSuperHeatingPower = f(50000000f, -Float.MAX_VALUE, Float.MAX_VALUE, "blazeBurnerSuperHeatingPower", "The power supplied by superheating Blaze Burners to Vats and Basins");
     public final ConfigFloat coolerHeatingPower = f(-30000000f, -Float.MAX_VALUE, Float.MAX_VALUE, "coolerHeatingPower", "The power supplied by cooling Refrigerstraytors to Vats and Basins");
@@ -0,0 +1,84 @@
+package com.petrolpark.destroy.config;
+
+public class DestroyChemistryConfigs extends DestroyConfigBase {
+
+    private static final int DEFAULT_GENERIC_REACTION_CACHE_SIZE = 4096;
+    private static final int DEFAULT_MIXTURE_NBT_CACHE_SIZE = 512;
+    private static final int DEFAULT_NOVEL_MOLECULE_CACHE_SIZE = 2048;
+    private static final int DEFAULT_BASIN_REACTION_CACHE_SIZE = 256;
+    private static final KineticsSolver DEFAULT_KINETICS_SOLVER = KineticsSolver.EXPLICIT;
+    private static final float DEFAULT_STIFF_SOLVER_TOLERANCE = 0.001f;
+
+    public final ConfigGroup caching = group(0, "caching", Comments.caching);
+    public final ConfigInt genericReactionCacheSize = i(DEFAULT_GENERIC_REACTION_CACHE_SIZE, 0, "genericReactionCacheSize", Comments.genericReactionCacheSize, Comments.toDisable);
+    public final ConfigInt mixtureNBTCacheSize = i(DEFAULT_MIXTURE_NBT_CACHE_SIZE, 0, "mixtureNBTCacheSize", Comments.mixtureNBTCacheSize, Comments.toDisable);
+    public final ConfigInt novelMoleculeCacheSize = i(DEFAULT_NOVEL_MOLECULE_CACHE_SIZE, 0, "novelMoleculeCacheSize", Comments.novelMoleculeCacheSize, Comments.toDisable);
+    public final ConfigInt basinReactionCacheSize = i(DEFAULT_BASIN_REACTION_CACHE_SIZE, 0, "basinReactionCacheSize", Comments.basinReactionCacheSize, Comments.toDisable);
+
+    public final ConfigGroup kinetics = group(0, "kinetics", Comments.kinetics);
+    public final ConfigEnum<KineticsSolver> kineticsSolver = e(DEFAULT_KINETICS_SOLVER, "kineticsSolver", Comments.kineticsSolver);
+    public final ConfigFloat stiffSolverTolerance = f(DEFAULT_STIFF_SOLVER_TOLERANCE, 0.000001f, 0.1f, "stiffSolverTolerance", Comments.stiffSolverTolerance);
+
+    public static enum KineticsSolver {
+
+        /**
+         * Each Reaction happens in turn at its current rate, {@link com.petrolpark.destroy.chemistry.legacy.LegacyMixture#reactForTick a fixed number of times} each tick.
+         */
+        EXPLICIT,
+        /**
+         * The rates of all Reactions are integrated over each tick together, with an adaptive
+         * {@link com.petrolpark.destroy.chemistry.legacy.RosenbrockKineticsSolver Rosenbrock method}.
+         */
+        ROSENBROCK;
+    };
+
+    @Override
+    public String getName() {
+        return "chemistry";
+    };
+
+    /**
+     * Whether the server configs have been loaded, and so whether the values in this config can be safely accessed.
+     * Chemistry code is also run on clients and during start-up, when this may not be the case.
+     */
+    public static boolean loaded() {
+        return DestroyAllConfigs.SERVER != null && DestroyAllConfigs.SERVER.specification.isLoaded();
+    };
+
+    public static int genericReactionCacheSize() {
+        return loaded() ? DestroyAllConfigs.SERVER.chemistry.genericReactionCacheSize.get() : DEFAULT_GENERIC_REACTION_CACHE_SIZE;
+    };
+
+    public static int mixtureNBTCacheSize() {
+        return loaded() ? DestroyAllConfigs.SERVER.chemistry.mixtureNBTCacheSize.get() : DEFAULT_MIXTURE_NBT_CACHE_SIZE;
+    };
+
+    public static int novelMoleculeCacheSize() {
+        return loaded() ? DestroyAllConfigs.SERVER.chemistry.novelMoleculeCacheSize.get() : DEFAULT_NOVEL_MOLECULE_CACHE_SIZE;
+    };
+
+    public static int basinReactionCacheSize() {
+        return loaded() ? DestroyAllConfigs.SERVER.chemistry.basinReactionCacheSize.get() : DEFAULT_BASIN_REACTION_CACHE_SIZE;
+    };
+
+    public static KineticsSolver kineticsSolver() {
+        return loaded() ? DestroyAllConfigs.SERVER.chemistry.kineticsSolver.get() : DEFAULT_KINETICS_SOLVER;
+    };
+
+    public static float stiffSolverTolerance() {
+        return loaded() ? DestroyAllConfigs.SERVER.chemistry.stiffSolverTolerance.getF() : DEFAULT_STIFF_SOLVER_TOLERANCE;
+    };
+
+    private static class Comments {
+        static String
+        toDisable = "[0 to disable this feature]",
+        caching = "Caches which save recalculating chemistry",
+        genericReactionCacheSize = "The maximum number of Reactions generated by Generic Reactions which are remembered and shared between all Mixtures",
+        mixtureNBTCacheSize = "The maximum number of Mixtures read from NBT which are remembered, so the same Mixture Fluid or Item is not read over and over",
+        novelMoleculeCacheSize = "The maximum number of novel Molecules (those made by Generic Reactions) read from their FROWNS codes which are remembered, so they are not rebuilt every time they are read",
+        basinReactionCacheSize = "The maximum number of outcomes of reacting Mixtures in Basins which are remembered, so Basins given the same Fluids and Items don't have to simulate the reaction again",
+        kinetics = "How the rates of Reactions are turned into changes in concentration",
+        kineticsSolver = "EXPLICIT - Each Reaction happens in turn, as many times each tick as the Simulation Level of the Vat. ROSENBROCK - All Reactions are solved together with an adaptive implicit method, which is much cheaper for fast reversible Reactions such as acid-base equilibria, and ignores the Simulation Level",
+        stiffSolverTolerance = "The relative error in concentrations allowed in each step of the ROSENBROCK kinetics solver";
+    };
+};
@@ -11,8 +11,10 @@ public class DestroyPollutionConfigs extends DestroyConfigBase {
     public final ConfigBool enablePollution = b(true, "enablePollution", Comments.enablePollution);
 
     public final EnumMap<PollutionType, ConfigFloat> pollutionDecreaseRates = enumFloatMap(PollutionType.class, PollutionType.values(), v -> "pollution" + DestroyLang.pascal(v.name()) + "Decrease", v -> new String[]{"The chance per tick that the "+DestroyLang.pascal(v.name()) + " level of the world will decrease"}, 0f, 1f, 0.002f);
-    public final EnumMap<PollutionType, ConfigFloat> pollutionSpreadingRates = enumFloatMap(PollutionType.class, Stream.of(PollutionType.values()).filter(p -> p.local).toArray(i -> new PollutionType[i]), v -> "pollution" + DestroyLang.pascal(v.name()) + "SpreadingRate", v -> new String[]{"The chance per tick that the "+DestroyLang.pascal(v.name()) + " level of two adjacent chunks will transfer"}, 0f, 1f, 0.002f);
-    public final EnumMap<PollutionType, ConfigFloat> pollutionSpreadingAmounts = enumFloatMap(PollutionType.class, Stream.of(PollutionType.values()).filter(p -> p.local).toArray(i -> new PollutionType[i]), v -> "pollution" + DestroyLang.pascal(v.name()) + "SpreadingAmount", v -> new String[]{"The "+DestroyLang.pascal(v.name()) + " level transferred between two adjacent chunks", "[If set to 1.0, the two chunks will immediately equalize]"}, 0f, 1f, 0.005f);
+    public final ConfigInt pollutionDiffusionInterval = i(20, 1, "pollutionDiffusionInterval", "[in ticks]", "How often local Pollution spreads between adjacent loaded chunks");
+    public final EnumMap<PollutionType, ConfigFloat> pollutionDiffusivities = enumFloatMap(PollutionType.class, Stream.of(PollutionType.values()).filter(p -> p.local).toArray(i -> new PollutionType[i]), v -> "pollution" + DestroyLang.pascal(v.name()) + "Diffusivity", v -> new String[]{"The proportion of the difference in "+DestroyLang.pascal(v.name()) + " level between two adjacent chunks which flows between them each time Pollution spreads", "[0 to disable spreading]"}, 0f, 0.25f, 0.01f);
+    public final ConfigFloat pollutionWindX = f(0f, -0.5f, 0.5f, "pollutionWindX", "The proportion of local Pollution blown into the chunk to the east each time Pollution spreads", "[Negative values blow Pollution west]");
+    public final ConfigFloat pollutionWindZ = f(0f, -0.5f, 0.5f, "pollutionWindZ", "The proportion of local Pollution blown into the chunk to the south each time Pollution spreads", "[Negative values blow Pollution north]");
     
     public final ConfigGroup configGroup = group(0, Comments.visualChanges);
     public final ConfigBool smog = b(true, "smog", Comments.smog);
@@ -4,8 +4,11 @@ public class DestroyWorldConfigs extends DestroyConfigBase {
 
     public final ConfigBool automaticGoggles = b(true, "automaticGoggles", "Players in Creative mode are treated as if they are wearing Engineer's Goggles even if they are not");
     public final ConfigBool extendedInventorySafeMode = b(true, "extendedInventorySafeMode", "Only show extra inventory slots in menus which are known not to cause problems", "[Disabling will let extra slots show up in new menus]", "[If you disable this and try a new menu from another mod, then tell me whether it crashes or not at https://github.com/petrolpark/Destroy/issues/1]");
+    public final ConfigInt explosionThreads = i(0, 0, 64, "explosionThreads", "How many threads big Explosions from Destroy work out which Blocks and Entities they affect on.", "[0 to work them out on the server thread]");
+    public final ConfigFloat parallelExplosionMinRadius = f(8f, 0f, "parallelExplosionMinRadius", "[in blocks]", "The smallest Explosions which are worked out on multiple threads, if there are any");
     public final DestroyBlocksConfigs blocks = nested(0, DestroyBlocksConfigs::new, "Destroy's blocks");
 	public final DestroyPollutionConfigs pollution = nested(0, DestroyPollutionConfigs::new, "The effects of pollution on the world");
+    public final DestroyChemistryConfigs chemistry = nested(0, DestroyChemistryConfigs::new, "Simulation of chemistry in Mixtures");
     public final DestroySubstancesConfigs substances = nested(0, DestroySubstancesConfigs::new, "Destroy's drugs and medicines");
     public final DestroyEquipmentConfigs equipment = nested(0, DestroyEquipmentConfigs::new, "Destroy's armor and tools");
     public final DestroyCompatConfigs compat = nested(0, DestroyCompatConfigs::new, "Compatibility with other mods");
@@ -8,6 +8,7 @@ import com.mojang.datafixers.util.Either;
 import com.petrolpark.destroy.DestroyClient;
 import com.petrolpark.destroy.block.renderer.BlockEntityBehaviourRenderer;
 import com.petrolpark.destroy.capability.Pollution.PollutionType;
+import com.petrolpark.destroy.capability.level.pollution.ClientLevelPollutionData;
 import com.petrolpark.destroy.client.gui.button.OpenDestroyMenuButton;
 import com.petrolpark.destroy.client.gui.screen.CustomExplosiveScreen;
 import com.petrolpark.destroy.config.DestroyAllConfigs;
@@ -44,6 +45,8 @@ import net.minecraftforge.client.event.ViewportEvent.ComputeFogColor;
 import net.minecraftforge.client.event.ViewportEvent.RenderFog;
 import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.player.ItemTooltipEvent;
+import net.minecraftforge.event.level.ChunkEvent;
+import net.minecraftforge.event.level.LevelEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
 
@@ -70,6 +73,19 @@ public class DestroyClientEvents {
         };
     };
 
+    /**
+     * Forget the Smog level of chunks the client no longer has.
+     */
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        if (event.getLevel().isClientSide()) ClientLevelPollutionData.forgetChunk(event.getChunk().getPos());
+    };
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel().isClientSide()) ClientLevelPollutionData.forgetAllChunks();
+    };
+
     /**
      * Render fog according to the world's Smog Level.
      */
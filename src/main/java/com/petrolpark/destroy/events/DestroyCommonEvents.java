@@ -24,8 +24,12 @@ import com.petrolpark.destroy.capability.player.babyblue.PlayerBabyBlueAddiction
 import com.petrolpark.destroy.capability.player.babyblue.PlayerBabyBlueAddictionProvider;
 import com.petrolpark.destroy.capability.player.previousposition.PlayerPreviousPositions;
 import com.petrolpark.destroy.capability.player.previousposition.PlayerPreviousPositionsProvider;
+import com.petrolpark.destroy.chemistry.legacy.LegacySpecies;
+import com.petrolpark.destroy.chemistry.legacy.MixtureNBTCache;
+import com.petrolpark.destroy.chemistry.legacy.genericreaction.GenericReactionCache;
 import com.petrolpark.destroy.commands.AttachedCheckCommand;
 import com.petrolpark.destroy.commands.BabyBlueAddictionCommand;
+import com.petrolpark.destroy.commands.CacheStatsCommand;
 import com.petrolpark.destroy.commands.CrudeOilCommand;
 import com.petrolpark.destroy.commands.PollutionCommand;
 import com.petrolpark.destroy.commands.RegenerateCircuitPatternCommand;
@@ -56,6 +60,7 @@ import com.petrolpark.destroy.network.packet.SyncVatMaterialsS2CPacket;
 import com.petrolpark.destroy.recipe.CircuitDeployerApplicationRecipe;
 import com.petrolpark.destroy.recipe.DestroyRecipeTypes;
 import com.petrolpark.destroy.recipe.DiscStampingRecipe;
+import com.petrolpark.destroy.recipe.ReactionInBasinCache;
 import com.petrolpark.destroy.recipe.ingredient.CircuitPatternIngredient;
 import com.petrolpark.destroy.sound.DestroySoundEvents;
 import com.petrolpark.destroy.util.ChemistryDamageHelper;
@@ -63,12 +68,17 @@ import com.petrolpark.destroy.util.DestroyLang;
 import com.petrolpark.destroy.util.FireproofingHelper;
 import com.petrolpark.destroy.util.DestroyTags.DestroyItemTags;
 import com.petrolpark.destroy.util.DestroyTags.DestroyMobEffectTags;
+import com.petrolpark.destroy.util.EvaporationParticleHandler;
+import com.petrolpark.destroy.util.PollutionDiffusion;
 import com.petrolpark.destroy.util.PollutionHelper;
+import com.petrolpark.destroy.util.PollutionSyncHandler;
 import com.petrolpark.destroy.util.RedstoneProgrammerItemHandler;
 import com.petrolpark.destroy.util.vat.VatMaterial;
 import com.petrolpark.destroy.util.vat.VatMaterialResourceListener;
+import com.petrolpark.destroy.util.vat.VatReactionScheduler;
 import com.petrolpark.destroy.world.damage.DestroyDamageSources;
 import com.petrolpark.destroy.world.entity.goal.BuildSandCastleGoal;
+import com.petrolpark.destroy.world.explosion.ExplosionRaycaster;
 import com.petrolpark.destroy.world.explosion.ExplosiveProperties;
 import com.petrolpark.destroy.world.village.DestroyTrades;
 import com.petrolpark.destroy.world.village.DestroyVillageAddition;
@@ -115,6 +125,7 @@ import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.server.packs.PackType;
 import net.minecraft.server.packs.repository.Pack;
 import net.minecraft.server.packs.repository.PackSource;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.util.RandomSource;
@@ -168,12 +179,14 @@ import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.event.level.BlockEvent.CropGrowEvent;
 import net.minecraftforge.event.level.BlockEvent.EntityPlaceEvent;
+import net.minecraftforge.event.level.ChunkEvent;
 import net.minecraftforge.event.level.ChunkWatchEvent;
 import net.minecraftforge.event.level.ExplosionEvent;
 import net.minecraftforge.event.level.LevelEvent;
 import net.minecraftforge.event.level.SaplingGrowTreeEvent;
 import net.minecraftforge.event.level.SleepFinishedTimeEvent;
 import net.minecraftforge.event.server.ServerAboutToStartEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
 import net.minecraftforge.event.village.VillagerTradesEvent;
 import net.minecraftforge.eventbus.api.Event.Result;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
@@ -266,6 +279,16 @@ public class DestroyCommonEvents {
         DestroyMessages.sendToClient(new SyncVatMaterialsS2CPacket(datapackMaterials), serverPlayer);
     };
 
+    @SubscribeEvent
+    public static void onChunkLoad(ChunkEvent.Load event) {
+        if (event.getChunk() instanceof LevelChunk chunk) PollutionDiffusion.onChunkLoaded(event.getLevel(), chunk);
+    };
+
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        PollutionDiffusion.onChunkUnloaded(event.getLevel(), event.getChunk().getPos());
+    };
+
     @SubscribeEvent
     public static void onPlayerLoadsChunk(ChunkWatchEvent.Watch event) {
         event.getChunk().getCapability(Pollution.CAPABILITY).ifPresent(pollution -> {
@@ -332,6 +355,7 @@ public class DestroyCommonEvents {
         new PollutionCommand(event.getDispatcher());
         new RegenerateCircuitPatternCommand(event.getDispatcher());
         new AttachedCheckCommand(event.getDispatcher());
+        new CacheStatsCommand(event.getDispatcher());
     };
 
     @SubscribeEvent
@@ -886,7 +910,7 @@ public class DestroyCommonEvents {
     };
 
     /**
-     * Remove dead Redstone Programmer items, naturally decrease Pollution over time, and tick decaying Items.
+     * Remove dead Redstone Programmer items, send evaporation Particles, spread and send changes to Pollution, naturally decrease Pollution over time, and tick decaying Items.
      */
     @SubscribeEvent
     public static void onTick(TickEvent.LevelTickEvent event) {
@@ -896,6 +920,13 @@ public class DestroyCommonEvents {
         // Redstone Programmers
         RedstoneProgrammerItemHandler.tick(level);
 
+        // Evaporation Particles, Pollution spreading and syncing
+        if (event.phase == TickEvent.Phase.END) {
+            EvaporationParticleHandler.tick(level);
+            PollutionDiffusion.tick(level);
+            PollutionSyncHandler.tick(level);
+        };
+
         // Global Pollution
         for (PollutionType pollutionType : PollutionType.values()) {
             if (PollutionHelper.pollutionEnabled() && !pollutionType.local && level.random.nextFloat() <= DestroyAllConfigs.SERVER.pollution.pollutionDecreaseRates.get(pollutionType).getF()) PollutionHelper.changePollutionGlobal(event.level, pollutionType, -1);
@@ -961,6 +992,10 @@ public class DestroyCommonEvents {
         event.addListener(new ExplosiveProperties.Listener(event.getConditionContext()));
         VatMaterialResourceListener vatMaterialListener = new VatMaterialResourceListener(event.getConditionContext());
         event.addListener(vatMaterialListener);
+        event.addListener((ResourceManagerReloadListener)resourceManager -> LegacySpecies.invalidateFROWNSCodeIndex());
+        event.addListener((ResourceManagerReloadListener)resourceManager -> ReactionInBasinCache.clear()); // Mixture conversion Recipes may have changed
+        event.addListener((ResourceManagerReloadListener)resourceManager -> GenericReactionCache.clear()); // Generated Reactions may refer to forgotten novel Molecules
+        event.addListener((ResourceManagerReloadListener)resourceManager -> MixtureNBTCache.clear()); // Read Mixtures may refer to forgotten Molecules and Reactions
     };
 
     @SubscribeEvent
@@ -976,6 +1011,12 @@ public class DestroyCommonEvents {
         Destroy.CIRCUIT_PATTERN_HANDLER.onLevelUnloaded(event.getLevel());
 	};
 
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        VatReactionScheduler.shutdown();
+        ExplosionRaycaster.shutdown();
+    };
+
     @EventBusSubscriber(bus = EventBusSubscriber.Bus.MOD)
 	public static class ModBusEvents {
 
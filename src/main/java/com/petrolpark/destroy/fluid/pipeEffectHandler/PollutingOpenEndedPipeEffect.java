@@ -1,11 +1,7 @@
 package com.petrolpark.destroy.fluid.pipeEffectHandler;
 
-import java.util.Random;
-
 import com.petrolpark.destroy.capability.Pollution.PollutionType;
 import com.petrolpark.destroy.fluid.DestroyFluids;
-import com.petrolpark.destroy.network.DestroyMessages;
-import com.petrolpark.destroy.network.packet.EvaporatingFluidS2CPacket;
 import com.petrolpark.destroy.util.PollutionHelper;
 import com.simibubi.create.content.fluids.OpenEndedPipe;
 import com.simibubi.create.content.fluids.OpenEndedPipe.IEffectHandler;
@@ -14,8 +10,6 @@ import net.minecraftforge.fluids.FluidStack;
 
 public class PollutingOpenEndedPipeEffect implements IEffectHandler {
 
-    private static final Random random = new Random();
-
     @Override
     @SuppressWarnings("deprecation")
     public boolean canApplyEffects(OpenEndedPipe pipe, FluidStack fluid) {
@@ -28,8 +22,7 @@ public class PollutingOpenEndedPipeEffect implements IEffectHandler {
 
     @Override
     public void applyEffects(OpenEndedPipe pipe, FluidStack fluid) {
-        PollutionHelper.pollute(pipe.getWorld(), pipe.getOutputPos(), fluid);
-        if (random.nextInt(20) == 0) DestroyMessages.sendToAllClients(new EvaporatingFluidS2CPacket(pipe.getOutputPos(), fluid));
+        PollutionHelper.pollute(pipe.getWorld(), pipe.getOutputPos(), 1f, 20, fluid);
     };
     
 };
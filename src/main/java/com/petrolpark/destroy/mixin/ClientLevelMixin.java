@@ -3,12 +3,12 @@ package com.petrolpark.destroy.mixin;
 import java.util.function.Supplier;
 
 import org.spongepowered.asm.mixin.Mixin;
-import org.spongepowered.asm.mixin.gen.Accessor;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 import com.petrolpark.destroy.block.color.SmogAffectedBlockColor;
+import com.petrolpark.destroy.mixin.accessor.ClientLevelAccessor;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectArrayMap;
 import net.minecraft.client.color.block.BlockTintCache;
@@ -39,19 +39,20 @@ public abstract class ClientLevelMixin extends Level {
         at = @At("RETURN")
     )
     public void inInit(ClientPacketListener pConnection, ClientLevel.ClientLevelData pClientLevelData, ResourceKey<Level> pDimension, Holder<DimensionType> pDimensionType, int pViewDistance, int pServerSimulationDistance, Supplier<ProfilerFiller> pProfiler, LevelRenderer pLevelRenderer, boolean pIsDebug, long pBiomeZoomSeed, CallbackInfo ci) {
-        getTintCaches().put(SmogAffectedBlockColor.GRASS_COLOR_RESOLVER, new BlockTintCache(pos -> {
+        Object2ObjectArrayMap<ColorResolver, BlockTintCache> tintCaches = ((ClientLevelAccessor)(Object)this).getTintCaches();
+        tintCaches.put(SmogAffectedBlockColor.GRASS_COLOR_RESOLVER, new BlockTintCache(pos -> {
             return thisClientLevel().calculateBlockTint(pos, (b, x, z) -> {
                 BlockPos nextPos = new BlockPos((int)x, pos.getY(), (int)z);
                 return SmogAffectedBlockColor.getColor(thisClientLevel().getBlockTint(nextPos, BiomeColors.GRASS_COLOR_RESOLVER), nextPos, thisClientLevel());
             });
         }));
-        getTintCaches().put(SmogAffectedBlockColor.FOLIAGE_COLOR_RESOLVER, new BlockTintCache(pos -> {
+        tintCaches.put(SmogAffectedBlockColor.FOLIAGE_COLOR_RESOLVER, new BlockTintCache(pos -> {
             return thisClientLevel().calculateBlockTint(pos, (b, x, z) -> {
                 BlockPos nextPos = new BlockPos((int)x, pos.getY(), (int)z);
                 return SmogAffectedBlockColor.getColor(thisClientLevel().getBlockTint(nextPos, BiomeColors.FOLIAGE_COLOR_RESOLVER), nextPos, thisClientLevel());
             });
         }));
-        getTintCaches().put(SmogAffectedBlockColor.WATER_COLOR_RESOLVER, new BlockTintCache(pos -> {
+        tintCaches.put(SmogAffectedBlockColor.WATER_COLOR_RESOLVER, new BlockTintCache(pos -> {
             return thisClientLevel().calculateBlockTint(pos, (b, x, z) -> {
                 BlockPos nextPos = new BlockPos((int)x, pos.getY(), (int)z);
                 return SmogAffectedBlockColor.getColor(thisClientLevel().getBlockTint(nextPos, BiomeColors.WATER_COLOR_RESOLVER), nextPos, thisClientLevel());
@@ -63,7 +64,4 @@ public abstract class ClientLevelMixin extends Level {
         return (ClientLevel)(Object)this;
     };
 
-    @Accessor("tintCaches")
-    public abstract Object2ObjectArrayMap<ColorResolver, BlockTintCache> getTintCaches();
-    
 };
@@ -1,7 +1,4 @@
 package com.petrolpark.destroy.mixin;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
 import java.util.function.Supplier;
 
 import org.spongepowered.asm.mixin.Mixin;
@@ -12,10 +9,8 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import com.petrolpark.destroy.capability.Pollution;
 import com.petrolpark.destroy.capability.Pollution.PollutionType;
 import com.petrolpark.destroy.config.DestroyAllConfigs;
-import com.petrolpark.destroy.network.DestroyMessages;
-import com.petrolpark.destroy.network.packet.SyncChunkPollutionS2CPacket;
 import com.petrolpark.destroy.util.PollutionHelper;
-import com.simibubi.create.foundation.utility.Couple;
+import com.petrolpark.destroy.util.PollutionSyncHandler;
 
 import net.minecraft.core.Holder;
 import net.minecraft.core.RegistryAccess;
@@ -24,7 +19,6 @@ import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.chunk.ChunkStatus;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.level.dimension.DimensionType;
 import net.minecraft.world.level.storage.WritableLevelData;
@@ -48,32 +42,7 @@ public abstract class ServerLevelMixin extends Level {
 
             // Decrease pollution in this chunk
             for (PollutionType pollutionType : PollutionType.values()) if (pollutionType.local && getRandom().nextFloat() <= DestroyAllConfigs.SERVER.pollution.pollutionDecreaseRates.get(pollutionType).getF()) pollution.change(pollutionType, -1);
-            
-            // Spread pollution to adjacent chunks
-            if (Math.abs(pos.x) % 2 != Math.abs(pos.z) % 2) return; // Only spread to/from chunks in a checkerboard fashion, as it is really the Chunk boundaries we want to tick
-            List<ChunkPos> adjacentPositions = new ArrayList<>(List.of(new ChunkPos(pos.x - 1, pos.z), new ChunkPos(pos.x + 1, pos.z), new ChunkPos(pos.x, pos.z - 1), new ChunkPos(pos.x, pos.z + 1)));
-            Collections.shuffle(adjacentPositions);
-            for (ChunkPos otherPos : adjacentPositions) {
-                LevelChunk otherChunk = (LevelChunk)getChunk(otherPos.x, otherPos.z, ChunkStatus.FULL, false);
-                if (otherChunk == null) continue;
-                otherChunk.getCapability(Pollution.CAPABILITY).ifPresent(otherPollution -> {
-                    boolean changeOccured = false;
-                    spreadEachType: for (PollutionType pollutionType : PollutionType.values()) {
-                        if (!pollutionType.local || getRandom().nextFloat() >= DestroyAllConfigs.SERVER.pollution.pollutionSpreadingRates.get(pollutionType).getF()) continue spreadEachType;
-                        Couple<Pollution> pollutions = Couple.create(pollution, otherPollution); // The first is the more polluted chunk
-                        if (otherPollution.get(pollutionType) > pollution.get(pollutionType)) pollutions = pollutions.swap();
-                        int transfer = (int)(0.5f + (pollutions.getFirst().get(pollutionType) - pollutions.getSecond().get(pollutionType)) * 0.5f * DestroyAllConfigs.SERVER.pollution.pollutionSpreadingAmounts.get(pollutionType).getF());
-                        if (transfer == 0) continue spreadEachType;
-                        pollutions.getFirst().change(pollutionType, -transfer);
-                        pollutions.getSecond().change(pollutionType, transfer);
-                        changeOccured = true;
-                    };
-                    if (changeOccured) DestroyMessages.sendToClientsTrackingChunk(new SyncChunkPollutionS2CPacket(otherPos, otherPollution), otherChunk);
-                });
-            };
-            
-            // Sync to Clients
-            DestroyMessages.sendToClientsTrackingChunk(new SyncChunkPollutionS2CPacket(pos, pollution), chunk);
+            if (pollution.hasChanged()) PollutionSyncHandler.markChanged(this, pos); // Sync to Clients at the end of the tick
         });
     };
 };
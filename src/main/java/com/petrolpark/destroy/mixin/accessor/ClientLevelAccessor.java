@@ -0,0 +1,16 @@
+package com.petrolpark.destroy.mixin.accessor;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectArrayMap;
+import net.minecraft.client.color.block.BlockTintCache;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.world.level.ColorResolver;
+
+@Mixin(ClientLevel.class)
+public interface ClientLevelAccessor {
+
+    @Accessor("tintCaches")
+    public Object2ObjectArrayMap<ColorResolver, BlockTintCache> getTintCaches();
+};
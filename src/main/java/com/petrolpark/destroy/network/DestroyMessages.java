@@ -28,6 +28,7 @@ import com.petrolpark.destroy.network.packet.SwissArmyKnifeToolC2SPacket;
 import com.petrolpark.destroy.network.packet.SyncChunkPollutionS2CPacket;
 import com.petrolpark.destroy.network.packet.SyncVatMaterialsS2CPacket;
 import com.petrolpark.destroy.network.packet.TransferFluidC2SPacket;
+import com.petrolpark.destroy.network.packet.VatStatusS2CPacket;
 import com.petrolpark.destroy.network.packet.RedstoneQuantityMonitorThresholdChangeC2SPacket;
 
 import net.minecraft.network.FriendlyByteBuf;
@@ -73,6 +74,7 @@ public class DestroyMessages {
         addS2CPacket(net, SyncChunkPollutionS2CPacket.class, SyncChunkPollutionS2CPacket::new);
         addS2CPacket(net, ExtraInventorySizeChangeS2CPacket.class, ExtraInventorySizeChangeS2CPacket::new);
         addS2CPacket(net, SmartExplosionS2CPacket.class, SmartExplosionS2CPacket::read);
+        addS2CPacket(net, VatStatusS2CPacket.class, VatStatusS2CPacket::new);
 
         addC2SPacket(net, SwissArmyKnifeToolC2SPacket.class, SwissArmyKnifeToolC2SPacket::new);
         addC2SPacket(net, RedstoneProgramSyncC2SPacket.class, RedstoneProgramSyncC2SPacket::new);
@@ -1,5 +1,6 @@
 package com.petrolpark.destroy.network.packet;
 
+import java.util.List;
 import java.util.function.Supplier;
 
 import com.petrolpark.destroy.client.particle.DestroyParticleTypes;
@@ -16,27 +17,27 @@ import net.minecraftforge.network.NetworkEvent;
 import net.minecraftforge.network.NetworkEvent.Context;
 
 /**
- * Summons evaporating Fluid Particles to simulate the emission of a gas.
+ * Summons evaporating Fluid Particles to simulate the emission of a gas, for every Fluid which {@link com.petrolpark.destroy.util.EvaporationParticleHandler evaporated} in a chunk in one tick.
  */
 public class EvaporatingFluidS2CPacket extends S2CPacket {
 
-    private BlockPos blockPos;
-    private FluidStack fluidStack;
+    private List<Evaporation> evaporations;
 
-    public EvaporatingFluidS2CPacket(BlockPos pos, FluidStack stack) {
-        this.blockPos = pos;
-        this.fluidStack = stack;
+    public EvaporatingFluidS2CPacket(List<Evaporation> evaporations) {
+        this.evaporations = evaporations;
     };
 
     public EvaporatingFluidS2CPacket(FriendlyByteBuf buffer) {
-        blockPos = buffer.readBlockPos();
-        fluidStack = buffer.readFluidStack();
+        evaporations = buffer.readList(buf -> new Evaporation(buf.readBlockPos(), buf.readFluidStack(), buf.readVarInt()));
     };
 
     @Override
     public void toBytes(FriendlyByteBuf buffer) {
-        buffer.writeBlockPos(blockPos);
-        buffer.writeFluidStack(fluidStack);
+        buffer.writeCollection(evaporations, (buf, evaporation) -> {
+            buf.writeBlockPos(evaporation.pos());
+            buf.writeFluidStack(evaporation.fluidStack());
+            buf.writeVarInt(evaporation.count());
+        });
     };
 
     @Override
@@ -45,14 +46,35 @@ public class EvaporatingFluidS2CPacket extends S2CPacket {
         NetworkEvent.Context context = supplier.get();
         context.enqueueWork(() -> {
             ClientLevel level = Minecraft.getInstance().level;
-            Vec3 center = VecHelper.getCenterOf(blockPos);
-            if (level == null || fluidStack.isEmpty()) return;
-            GasParticleData particleData = new GasParticleData(DestroyParticleTypes.EVAPORATION.get(), fluidStack);
-            for (int i = 0; i < 5; i++) {
-                level.addParticle(particleData, center.x, center.y, center.z, 0, 0.07D, 0);
+            if (level == null) return;
+            for (Evaporation evaporation : evaporations) {
+                if (evaporation.fluidStack().isEmpty()) continue;
+                Vec3 center = VecHelper.getCenterOf(evaporation.pos());
+                GasParticleData particleData = new GasParticleData(DestroyParticleTypes.EVAPORATION.get(), evaporation.fluidStack());
+                for (int i = 0; i < 5 * evaporation.count(); i++) {
+                    level.addParticle(particleData, center.x, center.y, center.z, 0, 0.07D, 0);
+                };
             };
         });
         return true;
     };
-    
+
+    /**
+     * A Fluid evaporating from a position.
+     * @param pos
+     * @param fluidStack
+     * @param count How many times it evaporated, each showing another set of Particles
+     */
+    public static record Evaporation(BlockPos pos, FluidStack fluidStack, int count) {
+
+        /**
+         * The same Fluid evaporating from the same position again.
+         * @param fluidStack The larger of the amounts is kept
+         * @param maxCount
+         */
+        public Evaporation merge(FluidStack fluidStack, int maxCount) {
+            return new Evaporation(pos, fluidStack.getAmount() > this.fluidStack.getAmount() ? fluidStack.copy() : this.fluidStack, Math.min(count + 1, maxCount));
+        };
+    };
+
 };
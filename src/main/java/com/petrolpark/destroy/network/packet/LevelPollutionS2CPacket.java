@@ -1,38 +1,53 @@
 package com.petrolpark.destroy.network.packet;
 
+import java.util.Map;
 import java.util.function.Supplier;
 
 import com.petrolpark.destroy.capability.Pollution;
+import com.petrolpark.destroy.capability.Pollution.PollutionType;
 import com.petrolpark.destroy.capability.level.pollution.ClientLevelPollutionData;
 
-import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraftforge.network.NetworkEvent;
 
+/**
+ * Updates the values of some or all global types of Pollution in a Level, and its outdoor temperature. Only the types which have changed are usually sent
+ * (see {@link com.petrolpark.destroy.util.PollutionSyncHandler}).
+ */
 public class LevelPollutionS2CPacket extends S2CPacket {
     
-    private final Pollution levelPollution;
+    private final Map<PollutionType, Integer> pollutionLevels;
+    private final float outdoorTemperature;
 
+    /**
+     * Send every type of Pollution in a Level.
+     */
     public LevelPollutionS2CPacket(Pollution levelPollution) {
-        this.levelPollution = levelPollution;
+        this(levelPollution.getAll(), levelPollution);
+    };
+
+    public LevelPollutionS2CPacket(Map<PollutionType, Integer> pollutionLevels, Pollution levelPollution) {
+        this.pollutionLevels = pollutionLevels;
+        outdoorTemperature = levelPollution instanceof Pollution.Level level ? level.getOutdoorTemperature() : 289f;
     };
 
     public LevelPollutionS2CPacket(FriendlyByteBuf buffer) {
-        this.levelPollution = new Pollution.Level();
-        levelPollution.loadNBTData(buffer.readNbt());
+        pollutionLevels = SyncChunkPollutionS2CPacket.readPollutionLevels(buffer);
+        outdoorTemperature = buffer.readFloat();
     };
 
     @Override
     public void toBytes(FriendlyByteBuf buffer) {
-        CompoundTag tag = new CompoundTag();
-        levelPollution.saveNBTData(tag);
-        buffer.writeNbt(tag);
+        SyncChunkPollutionS2CPacket.writePollutionLevels(buffer, pollutionLevels);
+        buffer.writeFloat(outdoorTemperature);
     };
     
     @Override
     public boolean handle(Supplier<NetworkEvent.Context> supplier) {
         NetworkEvent.Context context = supplier.get();
         context.enqueueWork(() -> {
+            Pollution.Level levelPollution = ClientLevelPollutionData.getLevelPollution() instanceof Pollution.Level existingPollution ? existingPollution : new Pollution.Level();
+            levelPollution.loadChanges(pollutionLevels, outdoorTemperature);
             ClientLevelPollutionData.setLevelPollution(levelPollution); // Update the Level Pollution information
         });
         return true;
@@ -1,53 +1,83 @@
 package com.petrolpark.destroy.network.packet;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.function.Supplier;
 
 import com.petrolpark.destroy.capability.Pollution;
+import com.petrolpark.destroy.capability.Pollution.PollutionType;
+import com.petrolpark.destroy.capability.level.pollution.ClientLevelPollutionData;
 
 import net.minecraft.client.Minecraft;
-import net.minecraft.client.renderer.chunk.ChunkRenderDispatcher.RenderChunk;
-import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraftforge.network.NetworkEvent.Context;
 
+/**
+ * Updates the values of some or all types of Pollution in a chunk. Only the types which have changed are usually sent
+ * (see {@link com.petrolpark.destroy.util.PollutionSyncHandler}).
+ */
 public class SyncChunkPollutionS2CPacket extends S2CPacket {
 
     public final ChunkPos pos;
-    private final CompoundTag chunkPollutionTag;
+    private final Map<PollutionType, Integer> pollutionLevels;
 
     public SyncChunkPollutionS2CPacket(FriendlyByteBuf buffer) {
         pos = buffer.readChunkPos();  
-        chunkPollutionTag = buffer.readNbt();
+        pollutionLevels = readPollutionLevels(buffer);
     };
 
+    /**
+     * Send every type of Pollution in a chunk.
+     */
     public <P extends Pollution> SyncChunkPollutionS2CPacket(ChunkPos pos, P pollution) {
+        this(pos, pollution.getAll());
+    };
+
+    public SyncChunkPollutionS2CPacket(ChunkPos pos, Map<PollutionType, Integer> pollutionLevels) {
         this.pos = pos;
-        this.chunkPollutionTag = new CompoundTag();
-        pollution.saveNBTData(chunkPollutionTag);
+        this.pollutionLevels = pollutionLevels;
     };
 
     @Override
     public void toBytes(FriendlyByteBuf buffer) {
         buffer.writeChunkPos(pos);
-        buffer.writeNbt(chunkPollutionTag);
+        writePollutionLevels(buffer, pollutionLevels);
     };
 
     @Override
     public boolean handle(Supplier<Context> supplier) {
         supplier.get().enqueueWork(() -> {
             Minecraft mc = Minecraft.getInstance();
+            if (pollutionLevels.containsKey(PollutionType.SMOG)) ClientLevelPollutionData.setChunkSmog(pos, pollutionLevels.get(PollutionType.SMOG));
             LevelChunk chunk = mc.level.getChunkSource().getChunk(pos.x, pos.z, false);
             if (chunk != null) chunk.getCapability(Pollution.CAPABILITY).ifPresent(pollution -> {
-                pollution.loadNBTData(chunkPollutionTag);
-                if (((Pollution.Chunk)pollution).checkRerender()) {
-                    for (RenderChunk renderChunk : mc.levelRenderer.viewArea.chunks) renderChunk.setDirty(true);
-                    mc.level.clearTintCaches();
-                };
+                pollution.loadChanges(pollutionLevels);
+                if (((Pollution.Chunk)pollution).checkRerender()) ClientLevelPollutionData.rerenderSmog(pos);
             });
         });
         return true;
     };
+
+    /**
+     * Write the number of types of Pollution, then each type and its value, all as var-ints.
+     */
+    public static void writePollutionLevels(FriendlyByteBuf buffer, Map<PollutionType, Integer> pollutionLevels) {
+        buffer.writeVarInt(pollutionLevels.size());
+        pollutionLevels.forEach((pollutionType, value) -> {
+            buffer.writeVarInt(pollutionType.ordinal());
+            buffer.writeVarInt(value);
+        });
+    };
+
+    public static Map<PollutionType, Integer> readPollutionLevels(FriendlyByteBuf buffer) {
+        Map<PollutionType, Integer> pollutionLevels = new EnumMap<>(PollutionType.class);
+        int size = buffer.readVarInt();
+        for (int i = 0; i < size; i++) {
+            pollutionLevels.put(PollutionType.values()[buffer.readVarInt()], buffer.readVarInt());
+        };
+        return pollutionLevels;
+    };
     
 };
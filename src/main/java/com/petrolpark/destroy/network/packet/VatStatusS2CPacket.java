@@ -0,0 +1,59 @@
+package com.petrolpark.destroy.network.packet;
+
+import java.util.function.Supplier;
+
+import com.petrolpark.destroy.block.entity.VatControllerBlockEntity;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent.Context;
+
+/**
+ * The pressure and temperature of a Vat and whether its Mixture is boiling or reacting, sent whenever these change enough to see,
+ * so the whole {@link VatControllerBlockEntity Vat Controller} doesn't have to be sent.
+ */
+public class VatStatusS2CPacket extends S2CPacket {
+
+    private final BlockPos pos;
+    private final float pressure;
+    private final float temperature;
+    private final boolean boiling;
+    private final boolean reacting;
+
+    public VatStatusS2CPacket(BlockPos pos, float pressure, float temperature, boolean boiling, boolean reacting) {
+        this.pos = pos;
+        this.pressure = pressure;
+        this.temperature = temperature;
+        this.boiling = boiling;
+        this.reacting = reacting;
+    };
+
+    public VatStatusS2CPacket(FriendlyByteBuf buffer) {
+        pos = buffer.readBlockPos();
+        pressure = buffer.readFloat();
+        temperature = buffer.readFloat();
+        byte flags = buffer.readByte();
+        boiling = (flags & 1) != 0;
+        reacting = (flags & 2) != 0;
+    };
+
+    @Override
+    public void toBytes(FriendlyByteBuf buffer) {
+        buffer.writeBlockPos(pos);
+        buffer.writeFloat(pressure);
+        buffer.writeFloat(temperature);
+        buffer.writeByte((boiling ? 1 : 0) | (reacting ? 2 : 0));
+    };
+
+    @Override
+    @SuppressWarnings("resource")
+    public boolean handle(Supplier<Context> supplier) {
+        supplier.get().enqueueWork(() -> {
+            Minecraft mc = Minecraft.getInstance();
+            if (mc.level != null && mc.level.getBlockEntity(pos) instanceof VatControllerBlockEntity vatController) vatController.receiveStatus(pressure, temperature, boiling, reacting);
+        });
+        return true;
+    };
+
+};
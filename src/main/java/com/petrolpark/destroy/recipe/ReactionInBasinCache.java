@@ -0,0 +1,150 @@
+package com.petrolpark.destroy.recipe;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+import com.petrolpark.destroy.chemistry.legacy.ReactionResult;
+import com.petrolpark.destroy.config.DestroyChemistryConfigs;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.material.Fluid;
+import net.minecraftforge.fluids.FluidStack;
+
+/**
+ * A store of the outcomes of {@link com.petrolpark.destroy.chemistry.legacy.LegacyMixture#reactInBasin reacting} Mixtures in Basins, so
+ * {@link ReactionInBasinRecipe#create} doesn't have to simulate up to 600 ticks of reacting every time a Basin is checked for a Recipe.
+ * Automated Basins are usually given exactly the same Fluids and Items over and over, and most of the time they are checked nothing can react at all.
+ * <p>Outcomes are keyed by the contents of the Fluids and Items, the power of the heater and the temperature outside the Basin.
+ * Inputs which can't react are remembered too. The least recently used outcomes are forgotten once the
+ * {@link DestroyChemistryConfigs#basinReactionCacheSize configured size} is exceeded.</p>
+ * <p>This is safe to access from multiple threads.</p>
+ */
+public class ReactionInBasinCache {
+
+    private static final Map<Key, Outcome> OUTCOMES = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Outcome> eldest) {
+            if (size() > DestroyChemistryConfigs.basinReactionCacheSize()) {
+                EVICTIONS.incrementAndGet();
+                return true;
+            };
+            return false;
+        };
+    };
+
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+    private static final AtomicLong EVICTIONS = new AtomicLong();
+
+    public static boolean isEnabled() {
+        return DestroyChemistryConfigs.basinReactionCacheSize() > 0;
+    };
+
+    /**
+     * Get the outcome of reacting the given Fluids and Items in a Basin, if it has been worked out before.
+     * @return {@code null} if it has not been worked out (or it has been forgotten)
+     */
+    @Nullable
+    public static Outcome get(Key key) {
+        Outcome outcome;
+        synchronized (OUTCOMES) {
+            outcome = OUTCOMES.get(key);
+        };
+        if (outcome == null) {
+            MISSES.incrementAndGet();
+        } else {
+            HITS.incrementAndGet();
+        };
+        return outcome;
+    };
+
+    public static void put(Key key, Outcome outcome) {
+        synchronized (OUTCOMES) {
+            OUTCOMES.put(key, outcome);
+        };
+    };
+
+    /**
+     * Forget all outcomes.
+     */
+    public static void clear() {
+        synchronized (OUTCOMES) {
+            OUTCOMES.clear();
+        };
+    };
+
+    public static int getSize() {
+        synchronized (OUTCOMES) {
+            return OUTCOMES.size();
+        };
+    };
+
+    /**
+     * The number of times a Basin was checked with inputs whose outcome was already known.
+     */
+    public static long getHits() {
+        return HITS.get();
+    };
+
+    /**
+     * The number of times a Basin was checked with inputs which had to be reacted.
+     */
+    public static long getMisses() {
+        return MISSES.get();
+    };
+
+    /**
+     * The number of outcomes which have been forgotten to make room for new ones.
+     */
+    public static long getEvictions() {
+        return EVICTIONS.get();
+    };
+
+    /**
+     * Everything which affects the outcome of reacting in a Basin. All Fluids and Items are copied, so it does not matter if the originals are later modified.
+     */
+    public static record Key(List<FluidKey> fluids, List<ItemKey> items, float heatingPower, float outsideTemperature) {
+
+        public static Key of(Collection<FluidStack> fluids, Collection<ItemStack> items, float heatingPower, float outsideTemperature) {
+            return new Key(
+                fluids.stream().map(stack -> new FluidKey(stack.getFluid(), stack.getAmount(), copyTag(stack.getTag()))).toList(),
+                items.stream().filter(stack -> !stack.isEmpty()).map(stack -> new ItemKey(stack.getItem(), stack.getCount(), copyTag(stack.getTag()))).toList(),
+                heatingPower,
+                outsideTemperature
+            );
+        };
+
+        @Nullable
+        private static CompoundTag copyTag(@Nullable CompoundTag tag) {
+            return tag == null ? null : tag.copy();
+        };
+    };
+
+    public static record FluidKey(Fluid fluid, int amount, @Nullable CompoundTag tag) {};
+
+    public static record ItemKey(Item item, int count, @Nullable CompoundTag tag) {};
+
+    /**
+     * What reacting in a Basin gives. This must not be modified, so anything taken out of it which can be modified should be copied.
+     * @param fluidOutput The reacted liquid Mixture
+     * @param itemOutputs The Items left over, followed by any precipitates
+     * @param duration In ticks
+     * @param reactionResults The {@link ReactionResult Reaction Results} to enact once the Recipe is finished
+     * @param evaporatedFluid The gaseous Mixture released
+     * @param tooFullToReact Whether the reacted Mixture would not fit in the Basin, in which case the Recipe cannot happen
+     */
+    public static record Outcome(FluidStack fluidOutput, List<ItemStack> itemOutputs, int duration, Map<ReactionResult, Integer> reactionResults, FluidStack evaporatedFluid, boolean tooFullToReact) {
+
+        /**
+         * The outcome of inputs which don't react.
+         */
+        public static final Outcome NO_REACTION = new Outcome(FluidStack.EMPTY, List.of(), 0, Map.of(), FluidStack.EMPTY, false);
+    };
+};
@@ -1,5 +1,6 @@
 package com.petrolpark.destroy.recipe;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -18,6 +19,7 @@ import com.petrolpark.destroy.chemistry.legacy.reactionresult.CombinedReactionRe
 import com.petrolpark.destroy.chemistry.legacy.reactionresult.PrecipitateReactionResult;
 import com.petrolpark.destroy.fluid.DestroyFluids;
 import com.petrolpark.destroy.fluid.MixtureFluid;
+import com.petrolpark.destroy.recipe.ReactionInBasinCache.Outcome;
 import com.petrolpark.destroy.util.ItemHelper;
 import com.petrolpark.destroy.util.vat.IVatHeaterBlock;
 import com.simibubi.create.content.processing.basin.BasinBlockEntity;
@@ -46,20 +48,63 @@ public class ReactionInBasinRecipe extends BasinRecipe {
 
     @Nullable
     public static ReactionInBasinRecipe create(Collection<FluidStack> availableFluids, Collection<ItemStack> availableItems, BasinBlockEntity basin) {
+        Level level = basin.getLevel();
+        BlockPos pos = basin.getBlockPos();
+        float heatingPower = IVatHeaterBlock.getHeatingPower(level, pos.below(), Direction.UP);
+        float outsideTemperature = Pollution.getLocalTemperature(level, pos);
+
+        // Only react if these inputs haven't been reacted before
+        Outcome outcome = null;
+        ReactionInBasinCache.Key key = null;
+        if (ReactionInBasinCache.isEnabled()) {
+            key = ReactionInBasinCache.Key.of(availableFluids, availableItems, heatingPower, outsideTemperature);
+            outcome = ReactionInBasinCache.get(key);
+        };
+        if (outcome == null) {
+            outcome = react(availableFluids, availableItems, heatingPower, outsideTemperature, level);
+            if (key != null) ReactionInBasinCache.put(key, outcome);
+        };
+
+        ExtendedBasinBehaviour behaviour = basin.getBehaviour(ExtendedBasinBehaviour.TYPE);
+        behaviour.tooFullToReact = outcome.tooFullToReact(); // Let the Player know if the Reaction cannot occur because the output Fluid will not fit
+        basin.sendData();
+
+        if (outcome == Outcome.NO_REACTION) return null;
+
+        behaviour.setReactionResults(new HashMap<>(outcome.reactionResults())); // Schedule the Reaction Results to occur once the Mixing has finished
+        behaviour.evaporatedFluid = outcome.evaporatedFluid().copy();
+
+        if (outcome.tooFullToReact()) return null;
+
         ProcessingRecipeBuilder<ReactionInBasinRecipe> builder = new ProcessingRecipeBuilder<>(ReactionInBasinRecipe::new, Destroy.asResource("reaction_in_basin_"));
 
+        // Add the resultant Mixture and Item Stacks to the results for this Recipe
+        builder.output(outcome.fluidOutput().copy());
+        outcome.itemOutputs().forEach(stack -> builder.output(stack.copy()));
+
+        // Set the duration of the Recipe to the time it took to React
+        builder.duration(outcome.duration());
+
+        // Add all the given Fluid Stacks as "required ingredients"
+        availableFluids.stream().map(FluidIngredient::fromFluidStack).forEach(builder::require);
+        // Add all the given Item Stacks as "required ingredients"
+        availableItems.stream().forEach(stack -> {
+            if (stack.isEmpty()) return;
+            for (int i = 0; i < stack.getCount(); i++) builder.require(Ingredient.of(stack.getItem()));
+        });
+
+        return builder.build();
+    };
+
+    /**
+     * Work out what happens when the given Fluids and Items react in a Basin. This doesn't change any of them.
+     * @return {@link Outcome#NO_REACTION} if they can't react
+     */
+    private static Outcome react(Collection<FluidStack> availableFluids, Collection<ItemStack> availableItems, float heatingPower, float outsideTemperature, Level level) {
         List<ItemStack> availableItemsCopy = availableItems.stream().map(ItemStack::copy).filter(stack -> !stack.isEmpty()).toList();
 
-        boolean canReact = true; // Start by assuming we will be able to React
         boolean containsMixtures = false; // If the ONLY thing we have are non-Mixtures, even if they can be converted to Mixtures we don't want to react
 
-        boolean isBasinTooFullToReact = false;
-        
-        Level level = basin.getLevel();
-        BlockPos pos = basin.getBlockPos();
-        float heatingPower = IVatHeaterBlock.getHeatingPower(level, pos.below(), Direction.UP);
-        float outsideTemperature = Pollution.getLocalTemperature(level, pos);
-
         Map<LegacyMixture, Double> mixtures = new HashMap<>(availableFluids.size()); // A Map of all available Mixtures to the volume of them available (in Buckets)
         int totalAmount = 0; // How much Mixture there is
 
@@ -73,18 +118,14 @@ public class ReactionInBasinRecipe extends BasinRecipe {
                 containsMixtures = true;
             } else {
                 // Non-Mixture -> Mixture conversions
-                MixtureConversionRecipe recipe = RecipeFinder.get(recipeCacheKey, basin.getLevel(), r -> r.getType() == DestroyRecipeTypes.MIXTURE_CONVERSION.getType())
+                MixtureConversionRecipe recipe = RecipeFinder.get(recipeCacheKey, level, r -> r.getType() == DestroyRecipeTypes.MIXTURE_CONVERSION.getType())
                     .stream()
                     .map(r -> (MixtureConversionRecipe)r)
                     .filter(r -> r.getFluidIngredients().get(0).test(fluidStack))
                     .findFirst()
                     .orElse(null);
-                if (recipe == null) {
-                    canReact = false;
-                    break;
-                } else {
-                    mixture = LegacyMixture.readNBT(recipe.getFluidResults().get(0).getOrCreateTag().getCompound("Mixture"));
-                };
+                if (recipe == null) return Outcome.NO_REACTION;
+                mixture = LegacyMixture.readNBT(recipe.getFluidResults().get(0).getOrCreateTag().getCompound("Mixture"));
             };
 
             int amount = fluidStack.getAmount();
@@ -92,80 +133,46 @@ public class ReactionInBasinRecipe extends BasinRecipe {
             mixtures.put(mixture, (double)amount / Constants.MILLIBUCKETS_PER_LITER);
         };
 
-        if (!containsMixtures) canReact = false; // Don't react without Mixtures, even if there are fluids which could be converted into Mixtures 
+        if (!containsMixtures) return Outcome.NO_REACTION; // Don't react without Mixtures, even if there are fluids which could be converted into Mixtures 
 
-        tryReact: if (canReact) {
-            // TODO modify temp according to Heat Level
-            LegacyMixture mixture = LegacyMixture.mix(mixtures);
-            ReactionInBasinResult result = mixture.reactInBasin(totalAmount, availableItemsCopy, heatingPower, outsideTemperature); // Mutably react the Mixture and change the Item Stacks
+        // TODO modify temp according to Heat Level
+        LegacyMixture mixture = LegacyMixture.mix(mixtures);
+        ReactionInBasinResult result = mixture.reactInBasin(totalAmount, availableItemsCopy, heatingPower, outsideTemperature); // Mutably react the Mixture and change the Item Stacks
 
-            // If equilibrium was not disturbed, don't do anything else
-            if (result.ticks() == 0) {
-                canReact = false;
-                break tryReact;
-            };
+        // If equilibrium was not disturbed, don't do anything else
+        if (result.ticks() == 0) return Outcome.NO_REACTION;
 
-            Phases phases = mixture.separatePhases(result.amount());
+        Phases phases = mixture.separatePhases(result.amount());
 
-            // Add the resultant Mixture to the results for this Recipe
-            FluidStack outputMixtureStack = MixtureFluid.of((int)Math.round(phases.liquidVolume()), phases.liquidMixture());
-            builder.output(outputMixtureStack);
-
-            // Let the Player know if the Reaction cannot occur because the output Fluid will not fit
-            if (outputMixtureStack.getAmount() > BASIN_MAX_OUTPUT) {
-                isBasinTooFullToReact = true;
-                canReact = false;
-            };
+        FluidStack outputMixtureStack = MixtureFluid.of((int)Math.round(phases.liquidVolume()), phases.liquidMixture());
 
-            int duration = Mth.clamp(result.ticks(), 40, 600); // Ensure this takes at least 2 seconds and less than 30 seconds
+        int duration = Mth.clamp(result.ticks(), 40, 600); // Ensure this takes at least 2 seconds and less than 30 seconds
 
-            // Set the duration of the Recipe to the time it took to React
-            builder.duration(duration);
+        // The resultant Item Stacks
+        List<ItemStack> itemOutputs = new ArrayList<>();
+        availableItemsCopy.stream().forEach(stack -> {
+            if (stack.isEmpty()) return;
+            itemOutputs.add(stack);
+        });
 
-            // Add the resultant Item Stacks to the results for this Recipe
-            availableItemsCopy.stream().forEach(stack -> {
-                if (stack.isEmpty()) return;
-                builder.output(stack);
-            });
+        Map<ReactionResult, Integer> reactionResults = new HashMap<>();
 
-            // Add all the given Fluid Stacks as "required ingredients"
-            availableFluids.stream().map(FluidIngredient::fromFluidStack).forEach(builder::require);
-            // Add all the given Item Stacks as "required ingredients"
-            availableItems.stream().forEach(stack -> {
-                if (stack.isEmpty()) return;
-                for (int i = 0; i < stack.getCount(); i++) builder.require(Ingredient.of(stack.getItem()));
-            });
+        gatherReactionResults(result.reactionResults(), reactionResults, itemOutputs); // Gather all 
 
-            Map<ReactionResult, Integer> reactionResults = new HashMap<>();
-
-            gatherReactionResults(result.reactionResults(), reactionResults, builder); // Gather all 
-
-            ExtendedBasinBehaviour behaviour = basin.getBehaviour(ExtendedBasinBehaviour.TYPE);
-            behaviour.setReactionResults(reactionResults); // Schedule the Reaction Results to occur once the Mixing has finished
-            behaviour.evaporatedFluid = MixtureFluid.of((int)Math.round(phases.gasVolume()), phases.gasMixture());
-        };
-
-        basin.getBehaviour(ExtendedBasinBehaviour.TYPE).tooFullToReact = isBasinTooFullToReact;
-        basin.sendData();
-
-        if (!canReact) {
-            return null;
-        };
-
-        return builder.build();
+        return new Outcome(outputMixtureStack, itemOutputs, duration, reactionResults, MixtureFluid.of((int)Math.round(phases.gasVolume()), phases.gasMixture()), outputMixtureStack.getAmount() > BASIN_MAX_OUTPUT);
     };
 
-    private static void gatherReactionResults(Map<ReactionResult, Integer> resultsOfReaction, Map<ReactionResult, Integer> resultsToEnact, ProcessingRecipeBuilder<ReactionInBasinRecipe> builder) {
+    private static void gatherReactionResults(Map<ReactionResult, Integer> resultsOfReaction, Map<ReactionResult, Integer> resultsToEnact, List<ItemStack> itemOutputs) {
         for (ReactionResult reactionresult : resultsOfReaction.keySet()) {
             if (reactionresult instanceof CombinedReactionResult combinedResult) {
                 Map<ReactionResult, Integer> childMap = new HashMap<>();
                 for (ReactionResult childResult : combinedResult.getChildren()) {
                     childMap.put(childResult, resultsOfReaction.get(combinedResult));
                 };
-                gatherReactionResults(childMap, resultsToEnact, builder);
+                gatherReactionResults(childMap, resultsToEnact, itemOutputs);
             } else if (reactionresult instanceof PrecipitateReactionResult precipitationResult) {
                 ItemStack precipitate = precipitationResult.getPrecipitate();
-                ItemHelper.withCount(precipitate, resultsOfReaction.get(reactionresult) * precipitate.getCount()).forEach(builder::output);
+                itemOutputs.addAll(ItemHelper.withCount(precipitate, resultsOfReaction.get(reactionresult) * precipitate.getCount()));
             } else { // Don't deal with precipitations in the normal way
                 resultsToEnact.put(reactionresult, resultsOfReaction.get(reactionresult));
             };
@@ -0,0 +1,53 @@
+package com.petrolpark.destroy.test;
+
+import com.petrolpark.destroy.chemistry.legacy.LegacyMolecularStructure;
+import com.petrolpark.destroy.chemistry.legacy.LegacySpecies;
+import com.petrolpark.destroy.chemistry.legacy.index.DestroyMolecules;
+import com.petrolpark.destroy.chemistry.legacy.index.DestroyTopologies;
+
+/**
+ * Checks every known Molecule gets the same FROWNS code from {@link LegacyMolecularStructure#serialize} as it did from the old
+ * {@link LegacyMolecularStructure#serializeByExhaustiveSearch exhaustive search}, and that reading and writing the new FROWNS code gives the same code back.
+ * The old search did not always give the same code for structures with two equally heavy side Branches, so any differences there should be checked by eye.
+ */
+public class FROWNSSerializationTest {
+
+    public static void main(String ...args) {
+
+        DestroyTopologies.register();
+        DestroyMolecules.register();
+
+        int checked = 0;
+        int failed = 0;
+        long newTime = 0l;
+        long oldTime = 0l;
+
+        for (LegacySpecies molecule : LegacySpecies.MOLECULES.values()) {
+            LegacyMolecularStructure structure = molecule.shallowCopyStructure();
+
+            long start = System.nanoTime();
+            String newFROWNSCode = structure.serialize();
+            newTime += System.nanoTime() - start;
+
+            String oldFROWNSCode;
+            start = System.nanoTime();
+            try {
+                oldFROWNSCode = structure.serializeByExhaustiveSearch();
+            } catch (RuntimeException e) { // The old search could not serialize single Atoms
+                oldFROWNSCode = newFROWNSCode;
+            };
+            oldTime += System.nanoTime() - start;
+
+            String roundTripFROWNSCode = LegacyMolecularStructure.deserialize(newFROWNSCode).serialize();
+
+            checked++;
+            if (!newFROWNSCode.equals(oldFROWNSCode) || !newFROWNSCode.equals(roundTripFROWNSCode)) {
+                failed++;
+                System.out.println(molecule.getFullID() + ": new '" + newFROWNSCode + "', old '" + oldFROWNSCode + "', round trip '" + roundTripFROWNSCode + "'");
+            };
+        };
+
+        System.out.println("Checked " + checked + " Molecules, " + failed + " differed");
+        System.out.println("New serializer took " + (newTime / 1000000d) + "ms, old serializer took " + (oldTime / 1000000d) + "ms");
+    };
+};
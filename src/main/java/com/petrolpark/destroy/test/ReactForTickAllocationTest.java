@@ -0,0 +1,63 @@
+package com.petrolpark.destroy.test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import com.petrolpark.destroy.chemistry.legacy.LegacyMixture;
+import com.petrolpark.destroy.chemistry.legacy.LegacyMixture.ReactionContext;
+import com.petrolpark.destroy.chemistry.legacy.index.DestroyGenericReactions;
+import com.petrolpark.destroy.chemistry.legacy.index.DestroyGroupFinder;
+import com.petrolpark.destroy.chemistry.legacy.index.DestroyMolecules;
+import com.petrolpark.destroy.chemistry.legacy.index.DestroyReactions;
+import com.petrolpark.destroy.chemistry.legacy.index.DestroyTopologies;
+
+/**
+ * Measures how many bytes {@link LegacyMixture#reactForTick} allocates each tick, for a Mixture with an acid-base equilibrium and a slow esterification going on at once.
+ * Run this before and after changing how Mixtures react to see whether the change allocates more or less. The {@link com.petrolpark.destroy.config.DestroyChemistryConfigs#kineticsSolver
+ * kinetics solver} is the default one, as the config is not loaded.
+ */
+public class ReactForTickAllocationTest {
+
+    private static final int WARMUP_TICKS = 10000;
+    private static final int MEASURED_TICKS = 100000;
+    private static final int CYCLES = 10;
+
+    public static void main(String ...args) {
+
+        DestroyGroupFinder.register();
+        DestroyTopologies.register();
+        DestroyMolecules.register();
+        DestroyReactions.register();
+        DestroyGenericReactions.register();
+
+        LegacyMixture mixture = new LegacyMixture();
+        mixture.addMolecule(DestroyMolecules.WATER, 40f);
+        mixture.addMolecule(DestroyMolecules.ACETIC_ACID, 2f);
+        mixture.addMolecule(DestroyMolecules.ETHANOL, 2f);
+        mixture.addMolecule(DestroyMolecules.SULFURIC_ACID, 0.5f);
+        mixture.addMolecule(DestroyMolecules.SODIUM_ION, 0.2f);
+        mixture.addMolecule(DestroyMolecules.HYDROXIDE, 0.2f);
+        mixture.setTemperature(350f);
+
+        ReactionContext context = new ReactionContext(List.of(), 0f, false);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        for (int tick = 0; tick < WARMUP_TICKS; tick++) {
+            mixture.disturbEquilibrium(); // Keep reacting even once nothing changes any more
+            mixture.reactForTick(context, CYCLES);
+        };
+
+        long startBytes = threads.getThreadAllocatedBytes(thread);
+        long startTime = System.nanoTime();
+        for (int tick = 0; tick < MEASURED_TICKS; tick++) {
+            mixture.disturbEquilibrium();
+            mixture.reactForTick(context, CYCLES);
+        };
+        long bytes = threads.getThreadAllocatedBytes(thread) - startBytes;
+        long time = System.nanoTime() - startTime;
+
+        System.out.println("Reacted " + MEASURED_TICKS + " ticks of " + CYCLES + " cycles with " + mixture.getContents(false).size() + " Molecules");
+        System.out.println("Allocated " + (bytes / (double)MEASURED_TICKS) + " bytes per tick, took " + (time / 1000d / MEASURED_TICKS) + "us per tick");
+    };
+};
@@ -20,7 +20,6 @@ import com.simibubi.create.content.processing.basin.BasinBlockEntity;
 import com.simibubi.create.content.processing.burner.BlazeBurnerBlock.HeatLevel;
 import com.simibubi.create.foundation.fluid.SmartFluidTank;
 import com.simibubi.create.foundation.recipe.RecipeFinder;
-import com.simibubi.create.foundation.utility.Iterate;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
@@ -39,6 +38,8 @@ public class DistillationTower {
     private BlockPos position; // The bottom of the Distillation Tower
     private List<BubbleCapBlockEntity> bubbleCaps;
     private DistillationRecipe lastRecipe;
+    private FractionsKey lastFractionsKey;
+    private List<FluidStack> lastFractions;
     private int tick;
 
     public DistillationTower(Level level, BlockPos controllerPos) { // Create a new Distillation Tower from scratch
@@ -142,7 +143,7 @@ public class DistillationTower {
     };
 
     /**
-     * Applies the current Recipe.
+     * Applies the current Recipe, as many times over as the Bubble Caps have room for (up to the {@link com.petrolpark.destroy.config.DestroyBlocksConfigs#distillationTowerMaxBatches configured limit}).
      * @return Whether the Recipe was successfully processed
      */
     public boolean process() {
@@ -153,33 +154,16 @@ public class DistillationTower {
         if (level == null) return false;
 
         // Mixtures
-        FluidStack fluidStack = getControllerBubbleCap().getTank().getFluid();
+        FluidStack fluidStack = controller.getTank().getFluid();
         if (fluidStack.isEmpty()) return false;
         if (DestroyFluids.isMixture(fluidStack.getFluid()) && fluidStack.getOrCreateTag().contains("Mixture", Tag.TAG_COMPOUND)) {
-            ReadOnlyMixture mixture = ReadOnlyMixture.readNBT(ReadOnlyMixture::new, fluidStack.getOrCreateTag().getCompound("Mixture"));
-            List<FluidStack> fractions = getFractionsOfMixture(mixture, fluidStack.getAmount(), getHeight() - 1);
+            List<FluidStack> fractions = getFractions(level, fluidStack.getOrCreateTag().getCompound("Mixture"), fluidStack.getAmount(), getHeight() - 1);
             if (fractions.size() <= 1) return false; // If the only result is the residue, there is no point distilling
-            for (boolean simulate : Iterate.trueAndFalse) {
-
-                // Check if resultant Fluids can fit
-                int i = 0;
-                for (FluidStack fraction : fractions) { // Ignore the first 'fraction', this is the residue and goes in the Reboiler
-                    if (i == 0) {
-                        i++;
-                        continue;
-                    }; 
-                    BubbleCapBlockEntity bubbleCap = bubbleCaps.get(i);
-
-                    SmartFluidTank tankToTryFill = simulate ? bubbleCap.getTank() : bubbleCap.getInternalTank(); // Try filling the visual tank, but actually fill the internal tank so the Bubble Cap isn't overfilled
-                    if (simulate && !bubbleCap.getInternalTank().isEmpty()) return false; // If the tanks are still filling from a previous distillation, don't try distilling again
-
-                    if (tankToTryFill.fill(fraction, simulate ? FluidAction.SIMULATE : FluidAction.EXECUTE) < fraction.getAmount()) return false; // If not all the Fluid can be added to this Bubble Cap return false
-                    if (!simulate) bubbleCap.setTicksToFill(i * BubbleCapBlockEntity.getTankCapacity() / BubbleCapBlockEntity.getTransferRate());
-                    i++;
-                };
-            };
+            List<FluidStack> distillates = fractions.subList(1, fractions.size()); // Ignore the first 'fraction', this is the residue and goes in the Reboiler
+            if (getMaxBatches(distillates, 1) == 0) return false; // The whole tank is distilled at once, so there is only ever one batch
 
             // If we've got to this point, the distillation is successful
+            fill(distillates, 1, 1);
             FluidStack fluidDrained = controller.getTank().drain(BubbleCapBlockEntity.getTankCapacity(), FluidAction.EXECUTE); // Drain the Reboiler of what is being distilled
             controller.getTank().fill(fractions.get(0), FluidAction.EXECUTE); // Fill the Reboiler with residue
             controller.particleFluid = fluidDrained.copy();
@@ -191,33 +175,19 @@ public class DistillationTower {
         if (lastRecipe == null) return false;
         if (lastRecipe.getFractions() > getHeight() - 1) return false;
 
-        FluidStack fluidDrained = FluidStack.EMPTY;
-        for (boolean simulate : Iterate.trueAndFalse) { // First simulate to check if all the Fluids can actually fit, then execute if they do. 
-
-            // Check if heat requirement is fulfilled
-            if (!lastRecipe.getRequiredHeat().testBlazeBurner(BasinBlockEntity.getHeatLevelOf(controller.getLevel().getBlockState(controller.getBlockPos().below(1))))) return false;
-
-            // Check if required Fluid is present
-            int requiredFluidAmount = lastRecipe.getRequiredFluid().getRequiredAmount();
-            fluidDrained = getControllerBubbleCap().getTank().drain(requiredFluidAmount, simulate ? FluidAction.SIMULATE : FluidAction.EXECUTE);
-            if (fluidDrained.getAmount() < requiredFluidAmount) { // If there is not enough Fluid in the controller Bubble Cap
-                return false;
-            };
-
-            // Check if resultant Fluids can fit
-            for (int i = 0; i < lastRecipe.getFractions(); i++) {
-                FluidStack distillate = lastRecipe.getFluidResults().get(i);
-                BubbleCapBlockEntity bubbleCap = bubbleCaps.get(i + 1);
+        // Check if heat requirement is fulfilled
+        if (!lastRecipe.getRequiredHeat().testBlazeBurner(BasinBlockEntity.getHeatLevelOf(level.getBlockState(controller.getBlockPos().below(1))))) return false;
 
-                SmartFluidTank tankToTryFill = simulate ? bubbleCap.getTank() : bubbleCap.getInternalTank(); // Try filling the visual tank, but actually fill the internal tank so the Bubble Cap isn't overfilled
-                if (simulate && !bubbleCap.getInternalTank().isEmpty()) return false; // If the Tanks are still filling from a previous distillation, don't try distilling again
-                
-                if (tankToTryFill.fill(distillate, simulate ? FluidAction.SIMULATE : FluidAction.EXECUTE) < distillate.getAmount()) return false; // If not all the Fluid can be added to this Bubble Cap
-                if (!simulate) bubbleCap.setTicksToFill(i * BubbleCapBlockEntity.getTankCapacity() / BubbleCapBlockEntity.getTransferRate());
-            };
+        // Check how many times over there is enough Fluid in the controller Bubble Cap, and room for the results in the rest
+        int maxBatches = DestroyAllConfigs.SERVER.blocks.distillationTowerMaxBatches.get();
+        int requiredFluidAmount = lastRecipe.getRequiredFluid().getRequiredAmount();
+        if (requiredFluidAmount > 0) maxBatches = Math.min(maxBatches, controller.getTank().drain(requiredFluidAmount * maxBatches, FluidAction.SIMULATE).getAmount() / requiredFluidAmount);
+        int batches = getMaxBatches(lastRecipe.getFluidResults().subList(0, lastRecipe.getFractions()), maxBatches);
+        if (batches == 0) return false;
 
-        };
         // If we've got to this point, the Recipe is being successfully processed
+        FluidStack fluidDrained = controller.getTank().drain(requiredFluidAmount * batches, FluidAction.EXECUTE);
+        fill(lastRecipe.getFluidResults().subList(0, lastRecipe.getFractions()), batches, 0);
         controller.particleFluid = fluidDrained.copy();
         controller.onDistill();
         if (controller.advancementBehaviour.getPlayer() instanceof ServerPlayer player) {
@@ -226,20 +196,78 @@ public class DistillationTower {
         return true;
     };
 
+    /**
+     * Work out how many times over the given distillates can be put in the Bubble Caps above the controller.
+     * @param distillates The Fluid which goes in each Bubble Cap, starting with the one above the controller
+     * @param limit The most batches to allow
+     * @return {@code 0} if there is no room, or if the Bubble Caps are still filling from a previous distillation
+     */
+    private int getMaxBatches(List<FluidStack> distillates, int limit) {
+        int batches = limit;
+        for (int i = 0; i < distillates.size(); i++) {
+            BubbleCapBlockEntity bubbleCap = bubbleCaps.get(i + 1);
+            if (!bubbleCap.getInternalTank().isEmpty()) return 0; // If the Tanks are still filling from a previous distillation, don't try distilling again
+            FluidStack distillate = distillates.get(i);
+            int amount = distillate.getAmount();
+            if (amount <= 0) continue;
+            batches = Math.min(batches, bubbleCap.getInternalTank().getCapacity() / amount);
+            if (batches == 0) return 0;
+            int fits = bubbleCap.getTank().fill(new FluidStack(distillate, amount * batches), FluidAction.SIMULATE); // Try filling the visual tank, so the Bubble Cap isn't overfilled
+            batches = Math.min(batches, fits / amount);
+            if (batches == 0) return 0;
+        };
+        return batches;
+    };
+
+    /**
+     * Put the given distillates in the internal tanks of the Bubble Caps above the controller. This does not check whether they fit.
+     * @param distillates
+     * @param batches
+     * @param delayOffset Added to the index of each Bubble Cap (starting at {@code 0} for the one above the controller) to get how many tanks' worth of time it waits before filling
+     * @see DistillationTower#getMaxBatches Checking whether they fit
+     */
+    private void fill(List<FluidStack> distillates, int batches, int delayOffset) {
+        for (int i = 0; i < distillates.size(); i++) {
+            BubbleCapBlockEntity bubbleCap = bubbleCaps.get(i + 1);
+            FluidStack distillate = distillates.get(i);
+            bubbleCap.getInternalTank().fill(new FluidStack(distillate, distillate.getAmount() * batches), FluidAction.EXECUTE); // Fill the internal tank, which slowly empties into the visual one
+            bubbleCap.setTicksToFill((i + delayOffset) * BubbleCapBlockEntity.getTankCapacity() / BubbleCapBlockEntity.getTransferRate());
+        };
+    };
+
+    /**
+     * Get the Fluid Stacks into which a Mixture will separate when distilled in this Tower, remembering the last result.
+     * Continuous towers distill the same Mixture over and over, so it rarely needs to be read or split up again.
+     * @param level
+     * @param mixtureTag The Mixture being distilled
+     * @param mixtureAmount The amount (in mB) of this Mixture
+     * @param numberOfFractions The maximum number of fractions this should be separated into, not including any possible residue
+     * @return Copies of the {@link DistillationTower#getFractionsOfMixture fractions}, which may be modified
+     */
+    private List<FluidStack> getFractions(Level level, CompoundTag mixtureTag, int mixtureAmount, int numberOfFractions) {
+        float roomTemperature = Pollution.getLocalTemperature(level, getControllerPos());
+        float heatedTemperature = getTemperatureForDistillationTower(level, getControllerPos());
+        FractionsKey key = new FractionsKey(mixtureTag, mixtureAmount, numberOfFractions, roomTemperature, heatedTemperature);
+        if (!key.equals(lastFractionsKey)) {
+            ReadOnlyMixture mixture = ReadOnlyMixture.readNBT(ReadOnlyMixture::new, mixtureTag);
+            lastFractions = getFractionsOfMixture(mixture, mixtureAmount, numberOfFractions, roomTemperature, Math.max(heatedTemperature, mixture.getTemperature()));
+            lastFractionsKey = new FractionsKey(mixtureTag.copy(), mixtureAmount, numberOfFractions, roomTemperature, heatedTemperature); // Copy the tag in case the Fluid it belongs to is changed
+        };
+        return lastFractions.stream().map(FluidStack::copy).toList();
+    };
+
     /**
      * Get the Fluid Stacks into which a Mixture Fluid Stack will separate when distilled.
      * @param mixture The Mixture being distilled
      * @param mixtureAmount The amount (in mB) of this Mixture
      * @param numberOfFractions The maximum number of fractions this should be separated into, not including any possible residue
-     * @param heatLevel The Heat Level of the Blaze Burner (or lack thereof) which is heating the controller Bubble Cap
+     * @param roomTemperature The temperature (in kelvins) around the Tower, below which Molecules are gases
+     * @param maxTemperature The temperature (in kelvins) the Mixture reaches, above which Molecules never evaporate
      * @return A list of Fluid Stacks of maximum size {@code numberOfFractions + 1}, with the first being the residue, and the rest being subsequent fractions
      */
-    private List<FluidStack> getFractionsOfMixture(ReadOnlyMixture mixture, int mixtureAmount, int numberOfFractions) {
+    private List<FluidStack> getFractionsOfMixture(ReadOnlyMixture mixture, int mixtureAmount, int numberOfFractions, float roomTemperature, float maxTemperature) {
         List<FluidStack> fractions = new ArrayList<>(numberOfFractions);
 
-        float roomTemperature = Pollution.getLocalTemperature(getControllerBubbleCap().getLevel(), getControllerPos());
-        float maxTemperature = Math.max(getTemperatureForDistillationTower(getControllerBubbleCap().getLevel(), getControllerPos()), mixture.getTemperature());
-
         if (numberOfFractions == 0) return fractions;
         if (numberOfFractions == 1) return List.of(MixtureFluid.of(mixtureAmount, mixture));
 
@@ -301,6 +329,11 @@ public class DistillationTower {
         return fractions;
     };
 
+    /**
+     * Everything which affects how a Mixture is {@link DistillationTower#getFractionsOfMixture split up}.
+     */
+    private static record FractionsKey(CompoundTag mixtureTag, int mixtureAmount, int numberOfFractions, float roomTemperature, float heatedTemperature) {};
+
     public CompoundTag serializeNBT() {
         CompoundTag compound = new CompoundTag();
         compound.putInt("Height", getHeight());
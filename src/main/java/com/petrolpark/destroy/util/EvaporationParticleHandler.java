@@ -0,0 +1,73 @@
+package com.petrolpark.destroy.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.petrolpark.destroy.network.DestroyMessages;
+import com.petrolpark.destroy.network.packet.EvaporatingFluidS2CPacket;
+import com.petrolpark.destroy.network.packet.EvaporatingFluidS2CPacket.Evaporation;
+import com.simibubi.create.foundation.utility.WorldAttached;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraftforge.fluids.FluidStack;
+
+/**
+ * Collects all the Fluids which {@link PollutionHelper#pollute evaporate} in each chunk over a tick, and sends them in one
+ * {@link EvaporatingFluidS2CPacket packet} per chunk, only to the Players who can see that chunk.
+ * The same Fluid evaporating from the same position more than once in a tick only shows a few more Particles, rather than sending it all again.
+ */
+public class EvaporationParticleHandler {
+
+    /**
+     * The most different evaporations shown per chunk per tick. Any more are dropped.
+     */
+    public static final int MAX_EVAPORATIONS_PER_CHUNK = 16;
+    /**
+     * The most times the same Fluid evaporating from the same position in one tick shows Particles.
+     */
+    public static final int MAX_COUNT = 4;
+
+    private static final WorldAttached<Long2ObjectMap<List<Evaporation>>> evaporations = new WorldAttached<>(level -> new Long2ObjectOpenHashMap<>());
+
+    /**
+     * Show evaporation Particles for the given Fluid at the end of this tick.
+     * @param level
+     * @param pos The position from which the Particles should originate
+     * @param fluidStack This is copied, so it does not matter if it is later modified
+     */
+    public static void queue(ServerLevel level, BlockPos pos, FluidStack fluidStack) {
+        if (fluidStack.isEmpty()) return;
+        List<Evaporation> chunkEvaporations = evaporations.get(level).computeIfAbsent(ChunkPos.asLong(pos), l -> new ArrayList<>());
+        for (int i = 0; i < chunkEvaporations.size(); i++) {
+            Evaporation evaporation = chunkEvaporations.get(i);
+            if (evaporation.pos().equals(pos) && evaporation.fluidStack().isFluidEqual(fluidStack)) {
+                chunkEvaporations.set(i, evaporation.merge(fluidStack, MAX_COUNT));
+                return;
+            };
+        };
+        if (chunkEvaporations.size() < MAX_EVAPORATIONS_PER_CHUNK) chunkEvaporations.add(new Evaporation(pos.immutable(), fluidStack.copy(), 1));
+    };
+
+    /**
+     * Send everything which evaporated this tick to the Players who can see it.
+     */
+    public static void tick(LevelAccessor level) {
+        if (!(level instanceof ServerLevel serverLevel)) return;
+        Long2ObjectMap<List<Evaporation>> map = evaporations.get(level);
+        if (map.isEmpty()) return;
+        for (Long2ObjectMap.Entry<List<Evaporation>> entry : map.long2ObjectEntrySet()) {
+            long chunkPos = entry.getLongKey();
+            LevelChunk chunk = (LevelChunk)serverLevel.getChunk(ChunkPos.getX(chunkPos), ChunkPos.getZ(chunkPos), ChunkStatus.FULL, false);
+            if (chunk != null) DestroyMessages.sendToClientsTrackingChunk(new EvaporatingFluidS2CPacket(entry.getValue()), chunk);
+        };
+        map.clear();
+    };
+
+};
@@ -0,0 +1,269 @@
+package com.petrolpark.destroy.util;
+
+import java.util.stream.Stream;
+
+import com.petrolpark.destroy.Destroy;
+import com.petrolpark.destroy.capability.Pollution;
+import com.petrolpark.destroy.capability.Pollution.PollutionType;
+import com.petrolpark.destroy.config.DestroyAllConfigs;
+import com.petrolpark.destroy.config.DestroyPollutionConfigs;
+import com.simibubi.create.foundation.utility.WorldAttached;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraft.world.level.chunk.LevelChunk;
+
+/**
+ * Spreads {@link PollutionType#local local} Pollution between loaded chunks, by diffusion (Pollution flows from more to less polluted chunks) and
+ * advection (Pollution is blown along by the wind).
+ * <p>Every {@link DestroyPollutionConfigs#pollutionDiffusionInterval few ticks}, the Pollution of each chunk which has any (and its neighbours) is copied into a grid of
+ * {@code float}s, one for each {@link Region region} of chunks. The flow across each edge between two loaded chunks is worked out from the values either side of it,
+ * and the results are copied back into the chunks. The grid keeps the fractions of Pollution which don't show up in the chunks' whole-number values, so even small
+ * differences eventually spread, and no Pollution is lost (other than {@link PollutionDiffusion#MIN_POLLUTION tiny amounts}). Unloaded chunks act as walls.</p>
+ * <p>Only chunks with Pollution are looked at, so this costs nothing for chunks which have never been polluted, however many are loaded.</p>
+ */
+public class PollutionDiffusion {
+
+    /**
+     * The width (in chunks) of each {@link Region}.
+     */
+    public static final int REGION_SIZE = 32;
+    private static final int REGION_BITS = 5;
+    private static final int REGION_MASK = REGION_SIZE - 1;
+
+    /**
+     * Chunks with less than this much of every type of Pollution are treated as clean, and any Pollution they have in the grid is forgotten.
+     * This is much less than one, so that chunks which only have a fraction of Pollution (which rounds to nothing in the chunk itself) keep it and keep spreading it.
+     */
+    public static final float MIN_POLLUTION = 1e-3f;
+
+    private static boolean warnedNotConserved = false;
+
+    private static final PollutionType[] LOCAL_TYPES = Stream.of(PollutionType.values()).filter(pollutionType -> pollutionType.local).toArray(PollutionType[]::new);
+
+    private static final WorldAttached<Long2ObjectMap<Region>> regions = new WorldAttached<>(level -> new Long2ObjectOpenHashMap<>());
+    private static final WorldAttached<LongSet> pollutedChunks = new WorldAttached<>(level -> new LongOpenHashSet());
+
+    /**
+     * Spread Pollution from the chunk containing the given position, if it has any. This should be called whenever local Pollution is added to a chunk.
+     */
+    public static void markPolluted(LevelAccessor level, BlockPos pos) {
+        markPolluted(level, new ChunkPos(pos));
+    };
+
+    public static void markPolluted(LevelAccessor level, ChunkPos chunkPos) {
+        if (!(level instanceof ServerLevel)) return;
+        pollutedChunks.get(level).add(chunkPos.toLong());
+    };
+
+    public static void onChunkLoaded(LevelAccessor level, LevelChunk chunk) {
+        if (!(level instanceof ServerLevel)) return;
+        chunk.getCapability(Pollution.CAPABILITY).ifPresent(pollution -> {
+            for (PollutionType pollutionType : LOCAL_TYPES) {
+                if (pollution.get(pollutionType) > 0) {
+                    markPolluted(level, chunk.getPos());
+                    return;
+                };
+            };
+        });
+    };
+
+    public static void onChunkUnloaded(LevelAccessor level, ChunkPos chunkPos) {
+        if (!(level instanceof ServerLevel)) return;
+        long pos = chunkPos.toLong();
+        pollutedChunks.get(level).remove(pos);
+        Region region = regions.get(level).get(getRegionKey(pos));
+        if (region != null) region.clear(getIndexInRegion(pos));
+    };
+
+    public static void tick(LevelAccessor level) {
+        if (!(level instanceof ServerLevel serverLevel) || !PollutionHelper.pollutionEnabled()) return;
+        if (serverLevel.getGameTime() % DestroyAllConfigs.SERVER.pollution.pollutionDiffusionInterval.get() != 0) return;
+        step(serverLevel);
+    };
+
+    /**
+     * Diffuse and advect all local Pollution in the given Level once.
+     */
+    protected static void step(ServerLevel level) {
+        LongSet polluted = pollutedChunks.get(level);
+        if (polluted.isEmpty()) return;
+        Long2ObjectMap<Region> levelRegions = regions.get(level);
+
+        // Work out how quickly each type of Pollution spreads, slowed down if necessary so no chunk can lose more Pollution than it has
+        DestroyPollutionConfigs config = DestroyAllConfigs.SERVER.pollution;
+        float windX = config.pollutionWindX.getF();
+        float windZ = config.pollutionWindZ.getF();
+        float[] diffusivities = new float[LOCAL_TYPES.length];
+        float[] windsX = new float[LOCAL_TYPES.length];
+        float[] windsZ = new float[LOCAL_TYPES.length];
+        for (int t = 0; t < LOCAL_TYPES.length; t++) {
+            float diffusivity = config.pollutionDiffusivities.get(LOCAL_TYPES[t]).getF();
+            float scale = Math.max(1f, 4f * diffusivity + Math.abs(windX) + Math.abs(windZ));
+            diffusivities[t] = diffusivity / scale;
+            windsX[t] = windX / scale;
+            windsZ[t] = windZ / scale;
+        };
+
+        // Gather the polluted chunks and the chunks next to them, as long as they are loaded
+        Long2ObjectMap<Pollution> chunks = new Long2ObjectOpenHashMap<>();
+        for (LongIterator iterator = polluted.iterator(); iterator.hasNext();) {
+            long pos = iterator.nextLong();
+            int x = ChunkPos.getX(pos);
+            int z = ChunkPos.getZ(pos);
+            if (!gather(level, chunks, x, z)) {
+                iterator.remove();
+                continue;
+            };
+            gather(level, chunks, x + 1, z);
+            gather(level, chunks, x - 1, z);
+            gather(level, chunks, x, z + 1);
+            gather(level, chunks, x, z - 1);
+        };
+
+        // Bring the grid up to date with any changes to the Pollution of chunks since the last step
+        for (Long2ObjectMap.Entry<Pollution> entry : chunks.long2ObjectEntrySet()) {
+            long pos = entry.getLongKey();
+            Region region = levelRegions.computeIfAbsent(getRegionKey(pos), k -> new Region());
+            int index = getIndexInRegion(pos);
+            for (int t = 0; t < LOCAL_TYPES.length; t++) {
+                int value = entry.getValue().get(LOCAL_TYPES[t]);
+                if (Math.round(region.values[t][index]) != value) region.values[t][index] = value;
+            };
+        };
+
+        double totalBefore = total(chunks, levelRegions);
+
+        // Work out the flow across the east and south edges of each chunk
+        for (long pos : chunks.keySet()) {
+            int x = ChunkPos.getX(pos);
+            int z = ChunkPos.getZ(pos);
+            flow(chunks, levelRegions, pos, ChunkPos.asLong(x + 1, z), diffusivities, windsX);
+            flow(chunks, levelRegions, pos, ChunkPos.asLong(x, z + 1), diffusivities, windsZ);
+        };
+
+        // Apply the flows and copy the results back into the chunks
+        polluted.clear();
+        LongSet pollutedRegions = new LongOpenHashSet();
+        double forgotten = 0d;
+        for (Long2ObjectMap.Entry<Pollution> entry : chunks.long2ObjectEntrySet()) {
+            long pos = entry.getLongKey();
+            Pollution pollution = entry.getValue();
+            long regionKey = getRegionKey(pos);
+            Region region = levelRegions.get(regionKey);
+            int index = getIndexInRegion(pos);
+            boolean stillPolluted = false;
+            for (int t = 0; t < LOCAL_TYPES.length; t++) {
+                float value = region.values[t][index] + region.flows[t][index];
+                region.flows[t][index] = 0f;
+                region.values[t][index] = value; // Keep the fraction, even if it rounds to nothing in the chunk
+                pollution.set(LOCAL_TYPES[t], Math.round(value));
+                if (value >= MIN_POLLUTION) stillPolluted = true;
+            };
+            if (!stillPolluted) { // Forget tiny amounts of Pollution, so the grid doesn't grow forever
+                for (int t = 0; t < LOCAL_TYPES.length; t++) forgotten += region.values[t][index];
+                region.clear(index);
+            };
+            if (pollution.hasChanged()) PollutionSyncHandler.markChanged(level, new ChunkPos(pos));
+            if (stillPolluted) {
+                polluted.add(pos);
+                pollutedRegions.add(regionKey);
+            };
+        };
+
+        // Check no Pollution was made or lost, other than the tiny amounts forgotten
+        double totalAfter = total(chunks, levelRegions) + forgotten;
+        if (!warnedNotConserved && Math.abs(totalAfter - totalBefore) > 1e-3d * Math.max(1d, totalBefore)) {
+            warnedNotConserved = true;
+            Destroy.LOGGER.warn("Local Pollution in "+level.dimension().location()+" was not conserved while spreading (was "+totalBefore+", now "+totalAfter+").");
+        };
+
+        // Forget Regions with no Pollution
+        levelRegions.keySet().retainAll(pollutedRegions);
+    };
+
+    /**
+     * The total local Pollution (of all types) in the grid for the given chunks.
+     */
+    private static double total(Long2ObjectMap<Pollution> chunks, Long2ObjectMap<Region> levelRegions) {
+        double total = 0d;
+        for (long pos : chunks.keySet()) {
+            Region region = levelRegions.get(getRegionKey(pos));
+            int index = getIndexInRegion(pos);
+            for (int t = 0; t < LOCAL_TYPES.length; t++) total += region.values[t][index];
+        };
+        return total;
+    };
+
+    /**
+     * Add the Pollution of the given chunk to the map, if it is loaded.
+     * @return Whether the chunk is loaded
+     */
+    private static boolean gather(ServerLevel level, Long2ObjectMap<Pollution> chunks, int x, int z) {
+        long pos = ChunkPos.asLong(x, z);
+        if (chunks.containsKey(pos)) return true;
+        LevelChunk chunk = (LevelChunk)level.getChunk(x, z, ChunkStatus.FULL, false);
+        if (chunk == null) return false;
+        chunk.getCapability(Pollution.CAPABILITY).ifPresent(pollution -> chunks.put(pos, pollution));
+        return chunks.containsKey(pos);
+    };
+
+    /**
+     * Work out the flow of each type of Pollution from one chunk to the next.
+     * @param winds For each type, the proportion of Pollution blown from {@code from} to {@code to} (or the other way if negative)
+     */
+    private static void flow(Long2ObjectMap<Pollution> chunks, Long2ObjectMap<Region> levelRegions, long from, long to, float[] diffusivities, float[] winds) {
+        if (!chunks.containsKey(to)) return; // Pollution doesn't flow into unloaded chunks
+        Region fromRegion = levelRegions.get(getRegionKey(from));
+        Region toRegion = levelRegions.get(getRegionKey(to));
+        int fromIndex = getIndexInRegion(from);
+        int toIndex = getIndexInRegion(to);
+        for (int t = 0; t < LOCAL_TYPES.length; t++) {
+            float fromValue = fromRegion.values[t][fromIndex];
+            float toValue = toRegion.values[t][toIndex];
+            if (fromValue == 0f && toValue == 0f) continue;
+            float flow = diffusivities[t] * (fromValue - toValue) // Diffusion
+                + winds[t] * (winds[t] > 0f ? fromValue : toValue); // Advection, taking Pollution from whichever chunk is upwind
+            fromRegion.flows[t][fromIndex] -= flow;
+            toRegion.flows[t][toIndex] += flow;
+        };
+    };
+
+    private static long getRegionKey(long chunkPos) {
+        return ChunkPos.asLong(ChunkPos.getX(chunkPos) >> REGION_BITS, ChunkPos.getZ(chunkPos) >> REGION_BITS);
+    };
+
+    private static int getIndexInRegion(long chunkPos) {
+        return ((ChunkPos.getX(chunkPos) & REGION_MASK) << REGION_BITS) | (ChunkPos.getZ(chunkPos) & REGION_MASK);
+    };
+
+    /**
+     * The Pollution of a square of {@link PollutionDiffusion#REGION_SIZE 32} by 32 chunks, as in region files.
+     */
+    protected static class Region {
+
+        /**
+         * The amount of each type of Pollution in each chunk, including fractions.
+         */
+        protected final float[][] values = new float[LOCAL_TYPES.length][REGION_SIZE * REGION_SIZE];
+        /**
+         * The amount of each type of Pollution flowing into each chunk this step.
+         */
+        protected final float[][] flows = new float[LOCAL_TYPES.length][REGION_SIZE * REGION_SIZE];
+
+        protected void clear(int index) {
+            for (int t = 0; t < LOCAL_TYPES.length; t++) {
+                values[t][index] = 0f;
+                flows[t][index] = 0f;
+            };
+        };
+    };
+};
@@ -12,22 +12,14 @@ import com.petrolpark.destroy.chemistry.legacy.LegacySpecies;
 import com.petrolpark.destroy.chemistry.legacy.ReadOnlyMixture;
 import com.petrolpark.destroy.config.DestroyAllConfigs;
 import com.petrolpark.destroy.fluid.DestroyFluids;
-import com.petrolpark.destroy.network.DestroyMessages;
-import com.petrolpark.destroy.network.packet.EvaporatingFluidS2CPacket;
-import com.petrolpark.destroy.network.packet.LevelPollutionS2CPacket;
-import com.petrolpark.destroy.network.packet.SyncChunkPollutionS2CPacket;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.DustParticleOptions;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.util.Mth;
 import net.minecraft.world.entity.LivingEntity;
-import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.chunk.ChunkStatus;
-import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.phys.AABB;
 import net.minecraftforge.fluids.FluidStack;
 
@@ -56,7 +48,7 @@ public class PollutionHelper {
 
     /**
      * Sets the level of pollution of the given Type in the given Level.
-     * The change is broadcast to all clients (Avoid this by using the {@link com.petrolpark.destroy.capability.Pollution#set set()} method instead).
+     * The change is {@link PollutionSyncHandler sent} to clients at the end of the tick (Avoid this by using the {@link com.petrolpark.destroy.capability.Pollution#set set()} method instead).
      * @param level
      * @param pollutionType
      * @param value Will be set within the {@link com.petrolpark.destroy.capability.Pollution.PollutionType bounds}.
@@ -64,33 +56,25 @@ public class PollutionHelper {
      */
     public static int setPollution(Level level, BlockPos pos, PollutionType pollutionType, int value) {
         return getCapOp(level, pos, pollutionType).map(pollution -> {
-            int oldValue = pollution.get(pollutionType);
             int newValue = pollution.set(pollutionType, value); // Actually set the Pollution level
-
-            if (oldValue != newValue && level instanceof ServerLevel serverLevel) {
-                if (pollutionType.local) {
-                    ChunkPos chunkPos = new ChunkPos(pos);
-                    LevelChunk chunk = (LevelChunk)serverLevel.getChunk(chunkPos.x, chunkPos.z, ChunkStatus.FULL, false);
-                    if (chunk != null) DestroyMessages.sendToClientsTrackingChunk(new SyncChunkPollutionS2CPacket(chunkPos, pollution), chunk);
-                } else {
-                    DestroyMessages.sendToAllClientsInDimension(new LevelPollutionS2CPacket(pollution), serverLevel);
-                };
+            if (pollutionType.local) { // Global Pollution is always checked for changes
+                PollutionSyncHandler.markChanged(level, pos);
+                PollutionDiffusion.markPolluted(level, pos);
             };
-
             return newValue;
         }).orElse(0);
     };
 
     /**
      * Changes the level of pollution of the given Type in the given Level by the given amount.
-     * The change is broadcast to all clients (Avoid this by using the {@link com.petrolpark.destroy.capability.Pollution#change change()} method instead).
+     * The change is {@link PollutionSyncHandler sent} to clients at the end of the tick (Avoid this by using the {@link com.petrolpark.destroy.capability.Pollution#change change()} method instead).
      * @param level
      * @param pollutionType
      * @param change Can be positive or negative; will be set within the {@link com.petrolpark.destroy.capability.Pollution.PollutionType bounds}.
      * @return The actual value to which the level of pollution was set (0 if there was no Capability)
      */
     public static int changePollution(Level level, BlockPos pos, PollutionType pollutionType, int change) {
-        return getCapOp(level, pos, pollutionType).map(pollution -> pollution.set(pollutionType, Mth.clamp(pollution.get(pollutionType) + change, 0, pollutionType.max))).orElse(0);
+        return getCapOp(level, pos, pollutionType).map(pollution -> setPollution(level, pos, pollutionType, pollution.get(pollutionType) + change)).orElse(0);
     };
 
     public static int changePollutionGlobal(Level level, PollutionType pollutionType, int change) {
@@ -142,7 +126,7 @@ public class PollutionHelper {
     };
 
     /**
-     * Release the given Fluids into the environment, sometimes summon evaporation particles, and expose nearby entities to the effects of the chemicals.
+     * Release the given Fluids into the environment, sometimes {@link EvaporationParticleHandler summon evaporation particles}, and expose nearby entities to the effects of the chemicals.
      * @param level The level in which the pollution is taking place
      * @param blockPos The position from which the evaporation Particles should originate
      * @param particleWeight There will be a {@code 1} in {@code particleWeight} chance of a Particle being shown. If this is {@code 1} (as is the default), there will always be a Particle
@@ -153,7 +137,7 @@ public class PollutionHelper {
         List<LivingEntity> nearbyEntities = level.getEntities(null, new AABB(blockPos).inflate(2)).stream().filter(e -> e instanceof LivingEntity).map(e -> (LivingEntity)e).toList();
         for (FluidStack fluidStack : List.of(fluidStacks)) {
             pollute(level, blockPos, multiplier, fluidStack);
-            if (particleWeight == 1 || level.getRandom().nextInt(particleWeight) == 0); DestroyMessages.sendToAllClients(new EvaporatingFluidS2CPacket(blockPos, fluidStack));
+            if ((particleWeight == 1 || level.getRandom().nextInt(particleWeight) == 0) && level instanceof ServerLevel serverLevel) EvaporationParticleHandler.queue(serverLevel, blockPos, fluidStack);
             for (LivingEntity entity : nearbyEntities) {
                 ChemistryDamageHelper.damage(level, entity, fluidStack, true);
             };
@@ -0,0 +1,66 @@
+package com.petrolpark.destroy.util;
+
+import com.petrolpark.destroy.capability.Pollution;
+import com.petrolpark.destroy.network.DestroyMessages;
+import com.petrolpark.destroy.network.packet.LevelPollutionS2CPacket;
+import com.petrolpark.destroy.network.packet.SyncChunkPollutionS2CPacket;
+import com.simibubi.create.foundation.utility.WorldAttached;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraft.world.level.chunk.LevelChunk;
+
+/**
+ * Collects all the chunks whose {@link Pollution} changes over a tick, and at the end of the tick sends each one's changes in one
+ * {@link SyncChunkPollutionS2CPacket packet} to the Players who can see it. Changes to the Level's global Pollution are sent in the same way.
+ * Only the {@link Pollution#takeChanges types of Pollution which changed} are sent, however many times they changed.
+ */
+public class PollutionSyncHandler {
+
+    private static final WorldAttached<LongSet> changedChunks = new WorldAttached<>(level -> new LongOpenHashSet());
+
+    /**
+     * Send the changes to the Pollution of the chunk containing the given position at the end of this tick.
+     */
+    public static void markChanged(LevelAccessor level, BlockPos pos) {
+        markChanged(level, new ChunkPos(pos));
+    };
+
+    /**
+     * Send the changes to the Pollution of the given chunk at the end of this tick.
+     */
+    public static void markChanged(LevelAccessor level, ChunkPos chunkPos) {
+        if (!(level instanceof ServerLevel)) return;
+        changedChunks.get(level).add(chunkPos.toLong());
+    };
+
+    /**
+     * Send all the changes to Pollution this tick to the Players who can see them.
+     */
+    public static void tick(LevelAccessor level) {
+        if (!(level instanceof ServerLevel serverLevel)) return;
+
+        // Chunk Pollution
+        LongSet chunks = changedChunks.get(level);
+        for (LongIterator iterator = chunks.iterator(); iterator.hasNext();) {
+            ChunkPos chunkPos = new ChunkPos(iterator.nextLong());
+            LevelChunk chunk = (LevelChunk)serverLevel.getChunk(chunkPos.x, chunkPos.z, ChunkStatus.FULL, false);
+            if (chunk != null) chunk.getCapability(Pollution.CAPABILITY).ifPresent(pollution -> {
+                if (pollution.hasChanged()) DestroyMessages.sendToClientsTrackingChunk(new SyncChunkPollutionS2CPacket(chunkPos, pollution.takeChanges()), chunk);
+            });
+        };
+        chunks.clear();
+
+        // Level Pollution
+        serverLevel.getCapability(Pollution.CAPABILITY).ifPresent(pollution -> {
+            if (pollution.hasChanged()) DestroyMessages.sendToAllClientsInDimension(new LevelPollutionS2CPacket(pollution.takeChanges(), pollution), serverLevel);
+        });
+    };
+
+};
@@ -0,0 +1,92 @@
+package com.petrolpark.destroy.util.vat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.petrolpark.destroy.Destroy;
+import com.petrolpark.destroy.chemistry.legacy.LegacyMixture;
+import com.petrolpark.destroy.chemistry.legacy.LegacyMixture.ReactionContext;
+import com.petrolpark.destroy.config.DestroyAllConfigs;
+
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * Reacts the Mixtures of {@link com.petrolpark.destroy.block.entity.VatControllerBlockEntity Vats} on a pool of worker threads, if the
+ * {@link com.petrolpark.destroy.config.DestroyBlocksConfigs#vatReactionThreads config} allows it.
+ * <p>Each Vat {@link VatReactionScheduler#submit submits} a {@link LegacyMixture#copy copy} of its Mixture and the Items it has available at the end of its tick.
+ * The copies are independent of each other and of the world, so any number of them can be reacted at once. Each Vat then collects the reacted copy at the start of its
+ * next tick and does everything which affects the world (such as {@link com.petrolpark.destroy.chemistry.legacy.ReactionResult Reaction Results}) on the server thread.</p>
+ */
+public class VatReactionScheduler {
+
+    private static ExecutorService executor = null;
+    private static int threads = 0;
+
+    /**
+     * Whether Vats should react on worker threads rather than the server thread.
+     */
+    public static boolean isEnabled() {
+        return DestroyAllConfigs.SERVER != null && DestroyAllConfigs.SERVER.specification.isLoaded() && DestroyAllConfigs.SERVER.blocks.vatReactionThreads.get() > 0;
+    };
+
+    /**
+     * Start reacting a Mixture on a worker thread. This should only be called on the server thread.
+     * @param mixture A Mixture which nothing else has access to
+     * @param availableItemStacks Copies of the Items which can dissolve in or catalyze Reactions in the Mixture
+     * @param UVPower
+     * @param fluidAmount The volume of the Mixture, in liters
+     * @param cycles The {@link com.petrolpark.destroy.block.entity.VatControllerBlockEntity#getSimulationLevel Simulation Level}
+     */
+    public static CompletableFuture<Result> submit(LegacyMixture mixture, List<ItemStack> availableItemStacks, float UVPower, double fluidAmount, int cycles) {
+        return CompletableFuture.supplyAsync(() -> {
+            ReactionContext context = new ReactionContext(availableItemStacks, UVPower, false);
+            List<ItemStack> remainingItemStacks = mixture.dissolveItems(context, fluidAmount);
+            mixture.reactForTick(new ReactionContext(remainingItemStacks, UVPower, false), cycles);
+            return new Result(mixture, remainingItemStacks);
+        }, getExecutor());
+    };
+
+    private static synchronized ExecutorService getExecutor() {
+        int configuredThreads = DestroyAllConfigs.SERVER.blocks.vatReactionThreads.get();
+        if (executor == null || threads != configuredThreads) {
+            if (executor != null) executor.shutdown(); // Let anything already submitted finish
+            threads = configuredThreads;
+            executor = Executors.newFixedThreadPool(threads, new WorkerThreadFactory());
+        };
+        return executor;
+    };
+
+    /**
+     * Stop all the worker threads once they have finished what they are doing. They are started again if anything else is {@link VatReactionScheduler#submit submitted}.
+     */
+    public static synchronized void shutdown() {
+        if (executor == null) return;
+        executor.shutdown();
+        executor = null;
+        threads = 0;
+    };
+
+    /**
+     * A reacted Mixture.
+     * @param mixture The same Mixture that was submitted, now reacted
+     * @param remainingItemStacks The copies of the Items submitted, in the same order, after some dissolved
+     */
+    public static record Result(LegacyMixture mixture, List<ItemStack> remainingItemStacks) {};
+
+    private static class WorkerThreadFactory implements ThreadFactory {
+
+        private static final AtomicInteger COUNT = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "Destroy Vat Reactions #" + COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setUncaughtExceptionHandler((t, e) -> Destroy.LOGGER.error("Error reacting Vat Mixture", e));
+            return thread;
+        };
+    };
+};
@@ -0,0 +1,487 @@
+package com.petrolpark.destroy.world.explosion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.petrolpark.destroy.Destroy;
+import com.petrolpark.destroy.config.DestroyAllConfigs;
+import com.petrolpark.destroy.world.explosion.SmartExplosion.ExplosionResult;
+
+import it.unimi.dsi.fastutil.longs.Long2FloatOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.ai.attributes.Attributes;
+import net.minecraft.world.item.enchantment.ProtectionEnchantment;
+import net.minecraft.world.level.ExplosionDamageCalculator;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Works out which Blocks and Entities a {@link SmartExplosion} affects, by casting rays out from its center in the same way as vanilla Explosions.
+ * <p>Rather than searching the Level for Entities at every step of every ray, the Entities which any ray could reach are gathered once, and each ray works out
+ * where it would enter each of them at the start. The explosion resistance of each Block is only worked out the first time a ray passes through it,
+ * and stored in an array covering the whole blast.</p>
+ * <p>Whether each Block {@link ExplosionDamageCalculator#shouldBlockExplode should explode} is asked once, with the most momentum any ray had at that Block,
+ * rather than at every step of every ray which passes through it.</p>
+ * <p>Big Explosions can {@link ExplosionRaycaster#cast cast} their rays on several threads at once.</p>
+ */
+public class ExplosionRaycaster {
+
+    /**
+     * The number of rays along each edge of each face of the cube through which rays are cast, less one.
+     */
+    protected static final int RESOLUTION = 16;
+    /**
+     * How far (in blocks) each ray moves each step.
+     */
+    protected static final float STEP_LENGTH = 0.3f;
+    /**
+     * How much momentum each ray loses each step, not counting what it passes through.
+     */
+    protected static final float MOMENTUM_LOSS_PER_STEP = 0.225f;
+    /**
+     * How much bigger than Entities' bounding boxes to make them for rays to hit them, as in {@link net.minecraft.world.entity.projectile.ProjectileUtil#getEntityHitResult}.
+     */
+    protected static final double ENTITY_INFLATION = 0.3d;
+    /**
+     * The largest number of Block positions for which explosion resistances are stored in an array. Bigger blasts store them in a Map instead.
+     */
+    protected static final int MAX_DENSE_CACHE_SIZE = 1 << 21;
+    /**
+     * How many batches of rays to split an Explosion cast in parallel into for each thread, so threads which finish early can take on more.
+     */
+    protected static final int BATCHES_PER_THREAD = 4;
+
+    private static ForkJoinPool pool = null;
+    private static int threads = 0;
+
+    /*
+     * Special values of cached explosion resistances.
+     */
+    protected static final float UNKNOWN = Float.NaN;
+    protected static final float NO_RESISTANCE = -1f;
+    protected static final float OUTSIDE_WORLD = -2f;
+
+    protected final SmartExplosion explosion;
+    protected final Level level;
+    protected final ExplosionDamageCalculator damageCalculator;
+    protected final Vec3 center;
+    /**
+     * The maximum momentum any Block or Entity could experience from this Explosion.
+     */
+    protected final float maxMomentum;
+    /**
+     * The furthest (in blocks) any ray could travel.
+     */
+    protected final double reach;
+
+    protected final List<EntityTarget> entityTargets;
+
+    // Explosion resistance cache
+    protected final int cacheRadius;
+    protected final int cacheSize;
+    protected final BlockPos cacheOrigin;
+    protected final float[] denseResistances;
+    protected final Long2FloatOpenHashMap sparseResistances;
+    /**
+     * Whether every explosion resistance a ray could need has been {@link ExplosionRaycaster#snapshot worked out}.
+     */
+    protected boolean snapshotted = false;
+
+    /**
+     * @param explosion
+     * @param level The Level in which the Explosion is occuring
+     * @param damageCalculator The damage calculator of the Explosion
+     * @param maxMomentum The maximum momentum any ray can start with
+     */
+    public ExplosionRaycaster(SmartExplosion explosion, Level level, ExplosionDamageCalculator damageCalculator, float maxMomentum) {
+        this.explosion = explosion;
+        this.level = level;
+        this.damageCalculator = damageCalculator;
+        center = explosion.getPosition();
+        this.maxMomentum = maxMomentum;
+        reach = STEP_LENGTH * (Math.ceil(maxMomentum / MOMENTUM_LOSS_PER_STEP) + 1d);
+
+        // Gather every Entity any ray could hit
+        entityTargets = level.getEntities((Entity)null, new AABB(center, center).inflate(reach + ENTITY_INFLATION), entity -> !entity.ignoreExplosion()).stream()
+            .map(EntityTarget::new)
+            .toList();
+
+        // Set up the explosion resistance cache
+        cacheRadius = Mth.ceil(reach) + 1;
+        cacheSize = 2 * cacheRadius + 1;
+        cacheOrigin = BlockPos.containing(center).offset(-cacheRadius, -cacheRadius, -cacheRadius);
+        if ((long)cacheSize * cacheSize * cacheSize <= MAX_DENSE_CACHE_SIZE) {
+            denseResistances = new float[cacheSize * cacheSize * cacheSize];
+            Arrays.fill(denseResistances, UNKNOWN);
+            sparseResistances = null;
+        } else {
+            denseResistances = null;
+            sparseResistances = new Long2FloatOpenHashMap();
+            sparseResistances.defaultReturnValue(UNKNOWN);
+        };
+    };
+
+    /**
+     * The direction of every ray, in the same order as vanilla. Imagine a cube around the center of the Explosion with a grid on each face:
+     * there is a ray from the center of the Explosion through each grid square.
+     */
+    public static List<Vec3> getRayDirections() {
+        List<Vec3> directions = new ArrayList<>();
+        int resolution = RESOLUTION / 2;
+        for (int i = -resolution; i <= resolution; i++) {
+            for (int j = -resolution; j <= resolution; j++) {
+                for (int k = -resolution; k <= resolution; k++) {
+                    if (i == -resolution || i == resolution || j == -resolution || j == resolution || k == -resolution || k == resolution) {
+                        directions.add(new Vec3(i, j, k).normalize());
+                    };
+                };
+            };
+        };
+        return directions;
+    };
+
+    /**
+     * Cast every ray, each with a (slightly randomised) starting momentum based on the radius and irregularity of the Explosion.
+     * If the {@link com.petrolpark.destroy.config.DestroyWorldConfigs#explosionThreads config} allows it and the Explosion is big enough, the Blocks
+     * in reach are {@link ExplosionRaycaster#snapshot snapshotted} and the rays are cast on several threads at once. The result is the same either way.
+     * @param random Used for the starting momentum of each ray, in order
+     */
+    public ExplosionResult cast(RandomSource random) {
+        List<Vec3> directions = getRayDirections();
+        // Pick all the momenta up front so they are the same however the rays are cast
+        float[] momenta = new float[directions.size()];
+        for (int i = 0; i < momenta.length; i++) {
+            momenta[i] = explosion.getRadius() * ((1f - explosion.irregularity / 2f) + random.nextFloat() * explosion.irregularity);
+        };
+
+        RayResults results;
+        if (denseResistances != null && shouldCastInParallel(explosion.getRadius())) {
+            snapshot();
+            ForkJoinPool pool = getPool();
+            int batchSize = Math.max(1, Mth.positiveCeilDiv(directions.size(), pool.getParallelism() * BATCHES_PER_THREAD));
+            List<ForkJoinTask<RayResults>> batches = new ArrayList<>();
+            for (int start = 0; start < directions.size(); start += batchSize) {
+                int from = start;
+                int to = Math.min(start + batchSize, directions.size());
+                batches.add(pool.submit(() -> castRays(directions, momenta, from, to)));
+            };
+            // Merge in the order the rays were cast, so the result doesn't depend on which thread finished first
+            results = new RayResults(new HashMap<>(), new HashMap<>());
+            for (ForkJoinTask<RayResults> batch : batches) {
+                results.merge(batch.join());
+            };
+        } else {
+            results = castRays(directions, momenta, 0, directions.size());
+        };
+
+        return new ExplosionResult(getBlocksToDestroy(results.blockMomenta()), results.entityStrengths());
+    };
+
+    /**
+     * Cast some of the rays.
+     * @param directions All ray directions
+     * @param momenta The starting momentum of each ray
+     * @param from The index of the first ray to cast (inclusive)
+     * @param to The index of the last ray to cast (exclusive)
+     */
+    protected RayResults castRays(List<Vec3> directions, float[] momenta, int from, int to) {
+        RayResults results = new RayResults(new HashMap<>(), new HashMap<>());
+        for (int i = from; i < to; i++) {
+            castRay(directions.get(i), momenta[i], results.blockMomenta(), results.entityStrengths());
+        };
+        return results;
+    };
+
+    /**
+     * Work out the explosion resistance of every Block any ray could reach, reading straight from the Level's chunk sections. Once this has been done,
+     * rays never touch the Level, so they can be cast on other threads. This must be called on the thread which owns the Level.
+     */
+    protected void snapshot() {
+        double maxDistanceSqr = (reach + 1d) * (reach + 1d); // The center of any Block a ray reaches is within this distance
+        int minX = cacheOrigin.getX(), minY = cacheOrigin.getY(), minZ = cacheOrigin.getZ();
+        int maxX = minX + cacheSize - 1, maxY = minY + cacheSize - 1, maxZ = minZ + cacheSize - 1;
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int chunkX = SectionPos.blockToSectionCoord(minX); chunkX <= SectionPos.blockToSectionCoord(maxX); chunkX++) {
+            for (int chunkZ = SectionPos.blockToSectionCoord(minZ); chunkZ <= SectionPos.blockToSectionCoord(maxZ); chunkZ++) {
+                ChunkAccess chunk = level.getChunk(chunkX, chunkZ);
+                for (int y = minY; y <= maxY; y++) {
+                    LevelChunkSection section = level.isOutsideBuildHeight(y) ? null : chunk.getSection(chunk.getSectionIndex(y));
+                    for (int x = Math.max(minX, SectionPos.sectionToBlockCoord(chunkX)); x <= Math.min(maxX, SectionPos.sectionToBlockCoord(chunkX, 15)); x++) {
+                        for (int z = Math.max(minZ, SectionPos.sectionToBlockCoord(chunkZ)); z <= Math.min(maxZ, SectionPos.sectionToBlockCoord(chunkZ, 15)); z++) {
+                            pos.set(x, y, z);
+                            if (center.distanceToSqr(x + 0.5d, y + 0.5d, z + 0.5d) > maxDistanceSqr) continue;
+                            int index = getCacheIndex(pos);
+                            if (!Float.isNaN(denseResistances[index])) continue;
+                            if (section == null || !level.isInWorldBounds(pos)) {
+                                denseResistances[index] = OUTSIDE_WORLD;
+                            } else {
+                                BlockState state = section.getBlockState(x & 15, y & 15, z & 15);
+                                denseResistances[index] = getResistance(pos, state, state.getFluidState());
+                            };
+                        };
+                    };
+                };
+            };
+        };
+        snapshotted = true;
+    };
+
+    /**
+     * Cast one ray. Every time the ray runs into a Block or Entity, its momentum decreases.
+     * @param direction Normalized
+     * @param momentum The starting momentum of the ray
+     * @param blockMomenta The most momentum any ray has had at each Block it could destroy, to be added to
+     * @param entityStrengths The strength with which each Entity is affected, to be added to
+     */
+    protected void castRay(Vec3 direction, float momentum, Map<BlockPos, Float> blockMomenta, Map<Entity, Float> entityStrengths) {
+        List<EntityHit> entityHits = getEntityHits(direction);
+
+        // We start at the center of the explosion
+        Vec3 positionToExplode = center;
+        BlockPos.MutableBlockPos blockPosToExplode = new BlockPos.MutableBlockPos();
+        double reachSqr = reach * reach;
+
+        while (momentum > 0f && center.distanceToSqr(positionToExplode) <= reachSqr) { // Never go further than the explosion resistances are stored for
+
+            // If there's an Entity in the way...
+            EntityTarget target = getFirstEntityHit(entityHits, positionToExplode);
+            if (target != null) {
+                // ...update the Entity to experience the maximum strength it could experience from this Explosion...
+                entityStrengths.merge(target.entity, momentum / maxMomentum, Math::max);
+                // ...and decrease the momentum of the explosion in this direction
+                momentum -= target.getMomentumLoss(momentum);
+            };
+
+            blockPosToExplode.set(positionToExplode.x, positionToExplode.y, positionToExplode.z);
+            float resistance = getResistance(blockPosToExplode);
+
+            // Don't continue if we've moved outside the world
+            if (resistance == OUTSIDE_WORLD) break;
+
+            // Determine the decrease in momentum due to the Block or Fluid State
+            if (resistance != NO_RESISTANCE) { // If it's not just air...
+                momentum -= (resistance + 0.3f) * 0.3f; //... decrease the momentum in this direction
+            };
+
+            // Remember this Block might be removed
+            if (momentum > 0f) blockMomenta.merge(blockPosToExplode.immutable(), momentum, Math::max);
+
+            // Move along the line of the direction vector
+            positionToExplode = positionToExplode.add(direction.scale(STEP_LENGTH));
+
+            // Decrease the momentum due to the extra distance moved
+            momentum -= MOMENTUM_LOSS_PER_STEP;
+        };
+    };
+
+    /**
+     * Ask the damage calculator which of the Blocks reached by rays should actually be destroyed.
+     * @param blockMomenta The most momentum any ray had at each Block
+     */
+    protected Set<BlockPos> getBlocksToDestroy(Map<BlockPos, Float> blockMomenta) {
+        Set<BlockPos> blocks = new HashSet<>();
+        for (Map.Entry<BlockPos, Float> entry : blockMomenta.entrySet()) {
+            BlockPos pos = entry.getKey();
+            BlockState state = level.getBlockState(pos);
+            if (damageCalculator.shouldBlockExplode(explosion, level, pos, state, entry.getValue())) blocks.add(pos);
+        };
+        return blocks;
+    };
+
+    /**
+     * Every Entity the given ray would pass into, closest first.
+     * @param direction Normalized
+     */
+    protected List<EntityHit> getEntityHits(Vec3 direction) {
+        if (entityTargets.isEmpty()) return List.of();
+        Vec3 end = center.add(direction.scale(reach));
+        List<EntityHit> hits = new ArrayList<>(2);
+        for (EntityTarget target : entityTargets) {
+            Optional<Vec3> entryPoint = target.inflatedBoundingBox.clip(center, end);
+            if (entryPoint.isPresent()) hits.add(new EntityHit(target, center.distanceToSqr(entryPoint.get())));
+        };
+        if (hits.size() > 1) hits.sort(Comparator.comparingDouble(EntityHit::distanceSqr));
+        return hits;
+    };
+
+    /**
+     * The closest Entity between the center of the Explosion and the given point along a ray, as {@link net.minecraft.world.entity.projectile.ProjectileUtil#getEntityHitResult}
+     * would find it: the ray must have entered the Entity's inflated bounding box, and the Entity's actual bounding box must overlap the box between the center and the point.
+     * @param hits The Entities the ray passes into, closest first
+     * @param position How far the ray has got
+     * @return {@code null} if there are no Entities in the way
+     */
+    protected EntityTarget getFirstEntityHit(List<EntityHit> hits, Vec3 position) {
+        if (hits.isEmpty()) return null;
+        double distanceSqr = center.distanceToSqr(position);
+        AABB box = null;
+        for (EntityHit hit : hits) {
+            if (hit.distanceSqr() > distanceSqr) return null; // All further hits are even further away
+            if (box == null) box = new AABB(center, position);
+            if (hit.target().entity.getBoundingBox().intersects(box)) return hit.target();
+        };
+        return null;
+    };
+
+    /**
+     * Get the explosion resistance of the Block at the given position, working it out if it is not already known.
+     * @return {@link ExplosionRaycaster#NO_RESISTANCE} for air, and {@link ExplosionRaycaster#OUTSIDE_WORLD} for positions outside the world
+     */
+    protected float getResistance(BlockPos pos) {
+        int index = getCacheIndex(pos);
+        if (index < 0 && sparseResistances == null) return snapshotted ? OUTSIDE_WORLD : calculateResistance(pos); // Rays stop at the edge of the reach, so this shouldn't happen
+        float resistance;
+        if (index >= 0) {
+            resistance = denseResistances[index];
+        } else {
+            resistance = sparseResistances.get(pos.asLong());
+        };
+        if (!Float.isNaN(resistance)) return resistance;
+        if (snapshotted) throw new IllegalStateException("Explosion ray reached a Block outside the snapshot at " + pos);
+
+        resistance = calculateResistance(pos);
+        if (index >= 0) {
+            denseResistances[index] = resistance;
+        } else {
+            sparseResistances.put(pos.asLong(), resistance);
+        };
+        return resistance;
+    };
+
+    protected float calculateResistance(BlockPos pos) {
+        if (!level.isInWorldBounds(pos)) return OUTSIDE_WORLD;
+        return getResistance(pos, level.getBlockState(pos), level.getFluidState(pos));
+    };
+
+    protected float getResistance(BlockPos pos, BlockState state, FluidState fluidState) {
+        Optional<Float> resistance = damageCalculator.getBlockExplosionResistance(explosion, level, pos, state, fluidState);
+        return resistance.map(r -> Math.max(r, 0f)).orElse(NO_RESISTANCE);
+    };
+
+    /**
+     * @return {@code -1} if explosion resistances are not being stored in an array, or the position is outside the array
+     */
+    protected int getCacheIndex(BlockPos pos) {
+        if (denseResistances == null) return -1;
+        int x = pos.getX() - cacheOrigin.getX();
+        int y = pos.getY() - cacheOrigin.getY();
+        int z = pos.getZ() - cacheOrigin.getZ();
+        if (x < 0 || y < 0 || z < 0 || x >= cacheSize || y >= cacheSize || z >= cacheSize) return -1;
+        return (x * cacheSize + y) * cacheSize + z;
+    };
+
+    /**
+     * Whether an Explosion of the given radius should cast its rays on several threads.
+     */
+    public static boolean shouldCastInParallel(float radius) {
+        return DestroyAllConfigs.SERVER != null && DestroyAllConfigs.SERVER.specification.isLoaded()
+            && DestroyAllConfigs.SERVER.explosionThreads.get() > 0
+            && radius >= DestroyAllConfigs.SERVER.parallelExplosionMinRadius.getF();
+    };
+
+    private static synchronized ForkJoinPool getPool() {
+        int configuredThreads = DestroyAllConfigs.SERVER.explosionThreads.get();
+        if (pool == null || threads != configuredThreads) {
+            if (pool != null) pool.shutdown(); // Let anything already submitted finish
+            threads = configuredThreads;
+            pool = new ForkJoinPool(threads, new WorkerThreadFactory(), (t, e) -> Destroy.LOGGER.error("Error casting Explosion rays", e), false);
+        };
+        return pool;
+    };
+
+    /**
+     * Stop all the worker threads once they have finished what they are doing. They are started again if another Explosion is cast in parallel.
+     */
+    public static synchronized void shutdown() {
+        if (pool == null) return;
+        pool.shutdown();
+        pool = null;
+        threads = 0;
+    };
+
+    /**
+     * What some rays found.
+     * @param blockMomenta The most momentum any of the rays had at each Block they could destroy
+     * @param entityStrengths The strength with which each Entity is affected
+     */
+    protected static record RayResults(Map<BlockPos, Float> blockMomenta, Map<Entity, Float> entityStrengths) {
+
+        public void merge(RayResults other) {
+            other.blockMomenta().forEach((pos, momentum) -> blockMomenta().merge(pos, momentum, Math::max));
+            other.entityStrengths().forEach((entity, strength) -> entityStrengths().merge(entity, strength, Math::max));
+        };
+    };
+
+    private static class WorkerThreadFactory implements ForkJoinWorkerThreadFactory {
+
+        private static final AtomicInteger COUNT = new AtomicInteger();
+
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("Destroy Explosion Rays #" + COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(ExplosionRaycaster.class.getClassLoader()); // Mod classes can't be loaded by the default class loader of pool threads
+            return thread;
+        };
+    };
+
+    /**
+     * An Entity which rays could hit, and everything about it needed to work out how much momentum rays lose passing through it.
+     */
+    protected static class EntityTarget {
+
+        protected final Entity entity;
+        protected final AABB inflatedBoundingBox;
+        protected final boolean living;
+        protected final double blastProtection;
+        protected final double knockbackResistance;
+
+        protected EntityTarget(Entity entity) {
+            this.entity = entity;
+            inflatedBoundingBox = entity.getBoundingBox().inflate(ENTITY_INFLATION);
+            living = entity instanceof LivingEntity;
+            if (entity instanceof LivingEntity livingEntity) {
+                blastProtection = ProtectionEnchantment.getExplosionKnockbackAfterDampener(livingEntity, 1d); // As in SmartExplosion#explodeEntity
+                knockbackResistance = livingEntity.getAttributeValue(Attributes.KNOCKBACK_RESISTANCE);
+            } else {
+                blastProtection = 1d;
+                knockbackResistance = 0d;
+            };
+        };
+
+        protected float getMomentumLoss(float momentum) {
+            if (!living) return 0.1f;
+            return Math.max(0f, 0.1f + (float)(0.125f
+                * (1d - blastProtection * momentum) // Increase the momentum loss if the Entity has Blast Resistance
+                * knockbackResistance)); // Increase the momentum loss if the Entity has knockback resistance. Never let an Entity speed the ray up
+        };
+    };
+
+    /**
+     * @param distanceSqr The square of the distance from the center of the Explosion at which the ray enters the Entity's inflated bounding box
+     */
+    protected static record EntityHit(EntityTarget target, double distanceSqr) {};
+};
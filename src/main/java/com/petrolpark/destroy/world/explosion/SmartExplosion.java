@@ -2,12 +2,9 @@ package com.petrolpark.destroy.world.explosion;
 
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
 import java.util.Map.Entry;
 
 import javax.annotation.Nullable;
@@ -31,9 +28,7 @@ import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.ExperienceOrb;
 import net.minecraft.world.entity.LivingEntity;
-import net.minecraft.world.entity.ai.attributes.Attributes;
 import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.entity.projectile.ProjectileUtil;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.enchantment.ProtectionEnchantment;
 import net.minecraft.world.level.Explosion;
@@ -43,11 +38,8 @@ import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.gameevent.GameEvent;
-import net.minecraft.world.level.material.FluidState;
 import net.minecraft.world.level.storage.loot.LootParams;
 import net.minecraft.world.level.storage.loot.parameters.LootContextParams;
-import net.minecraft.world.phys.AABB;
-import net.minecraft.world.phys.EntityHitResult;
 import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
@@ -172,82 +164,11 @@ public class SmartExplosion extends Explosion {
 
     /**
      * Get the list of Blocks Positions this explosion should destroy, and the Entities this Explosion should affect.
-     * Default implementation is mostly copied from the Minecraft {@link net.minecraft.world.level.Explosion#explode source code}.
+     * Default implementation {@link ExplosionRaycaster casts rays} in the same way as the Minecraft {@link net.minecraft.world.level.Explosion#explode source code}.
      */
     public ExplosionResult getExplosionResult() {
-        Set<BlockPos> blocks = new HashSet<>();
-        Map<Entity, Float> entities = new HashMap<>();
-
-        int resolution = 8;
-
         float maxMomentum = radius * (1f + irregularity / 2f); // The maximum momentum any Block or Entity could experience from this Explosion
-
-        // Imagine a cube around the center of the explosion with a (2 * resolution) by (2 * resolution) grid on each face.
-        // For each grid square on each face...
-        for (int i = -resolution; i <= resolution; i++) {
-            for (int j = -resolution; j <= resolution; j++) {
-                for (int k = -resolution; k <= resolution; k++) {
-                    if (i == -resolution || i == resolution || j == -resolution || j == resolution || k == -resolution || k == resolution) {
-                        // ...we determine the direction vector from the center of the Explosion to the center of that square.
-                        Vec3 direction = new Vec3(i, j, k).normalize();
-
-                        // We pick a (slightly randomised) 'momentum' in this direction, based on the radius and smoothness of this Explosion
-                        // Every time the line of this direction vector runs into a Block or Entity, the momentum will decrease slightly.
-                        float momentum = radius * ((1f - irregularity / 2f) + random.nextFloat() * irregularity);
-
-                        // We start at the center of the explosion
-                        Vec3 positionToExplode = new Vec3(x, y, z);
-
-                        while (momentum > 0f) {
-
-                            // If there's an Entity in the way...
-                            EntityHitResult hitResult = ProjectileUtil.getEntityHitResult(level, null, position, positionToExplode, new AABB(position, positionToExplode), entity -> !entity.ignoreExplosion());
-                            if (hitResult != null) {
-                                Entity entity = hitResult.getEntity();
-                                // ...update the Entity to experience the maximum strength it could experience from this Explosion...
-                                entities.merge(hitResult.getEntity(), momentum / maxMomentum, (existingStrength, strength) -> Math.max(existingStrength, strength));
-                                // ...and decrease the momentum of the explosion in this direction
-                                if (entity instanceof LivingEntity livingEntity) {
-                                    momentum -= 0.1f + (0.125f
-                                        * (1d - ProtectionEnchantment.getExplosionKnockbackAfterDampener(livingEntity, momentum)) // Increase the momentum loss if the Entity has Blast Resistance
-                                        * (livingEntity.getAttributeValue(Attributes.KNOCKBACK_RESISTANCE))); // Increase the momentum loss if the Entity has knockback resistance
-                                } else {
-                                    momentum -= 0.1f;
-                                };
-                            };
-
-                            BlockPos blockPosToExplode = BlockPos.containing(positionToExplode);
-                            BlockState blockState = level.getBlockState(blockPosToExplode);
-                            FluidState fluidState = level.getFluidState(blockPosToExplode);
-
-                            // Don't continue if we've moved outside the world
-                            if (!level.isInWorldBounds(blockPosToExplode)) {
-                                break;
-                            };
-
-                            // Determine the decrease in momentum due to the Block or Fluid State
-                            Optional<Float> optional = damageCalculator.getBlockExplosionResistance(this, level, blockPosToExplode, blockState, fluidState);
-                            if (optional.isPresent()) { // If it's not just air...
-                                momentum -= (optional.get() + 0.3f) * 0.3f; //... decrease the momentum in this direction
-                            };
-
-                            // Determine whether the Block should be removed
-                            if (momentum > 0.0f && damageCalculator.shouldBlockExplode(this, level, blockPosToExplode, blockState, momentum)) {
-                                blocks.add(blockPosToExplode); // If so, add it to the list of Blocks to remove
-                            };
-
-                            // Move along the line of the direction vector
-                            positionToExplode = positionToExplode.add(direction.scale(0.3f));
-
-                            // Decrease the momentum due to the extra distance moved
-                            momentum -= 0.225f;
-                        };
-                    };
-                };
-            };
-        };
-
-        return new ExplosionResult(blocks, entities);
+        return new ExplosionRaycaster(this, level, damageCalculator, maxMomentum).cast(random);
     };
 
     /**